@@ -0,0 +1,74 @@
+package org.ezon.msa.bench;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.ezon.msa.dto.ProductListRow;
+import org.ezon.msa.dto.ProductSearchRow;
+import org.ezon.msa.dto.SellerProfile;
+import org.ezon.msa.entity.Category;
+import org.ezon.msa.enums.ProductStatus;
+
+// 벤치마크 공용 데이터 (시드 고정)
+public final class BenchmarkData {
+
+	public static final int ROOT_CATEGORIES = 20;
+	public static final int CHILD_CATEGORIES = 10;
+	public static final int SELLERS = 500;
+
+	private BenchmarkData() {
+	}
+
+	// 대분류 ROOT_CATEGORIES 개 x 중분류 CHILD_CATEGORIES 개 (id 1부터)
+	public static List<Category> categories() {
+		List<Category> result = new ArrayList<>();
+		long id = 1;
+		for (int root = 0; root < ROOT_CATEGORIES; root++) {
+			long rootId = id++;
+			result.add(Category.builder().categoryId(rootId).name("대분류" + root).build());
+			for (int child = 0; child < CHILD_CATEGORIES; child++)
+				result.add(Category.builder().categoryId(id++).name("중분류" + root + "-" + child).parentId(rootId)
+						.build());
+		}
+		return result;
+	}
+
+	public static long randomLeafCategory(Random random) {
+		int root = random.nextInt(ROOT_CATEGORIES);
+		return root * (CHILD_CATEGORIES + 1L) + 2 + random.nextInt(CHILD_CATEGORIES);
+	}
+
+	public static List<ProductListRow> listRows(int count, long seed) {
+		Random random = new Random(seed);
+		List<ProductListRow> rows = new ArrayList<>(count);
+		for (int i = 0; i < count; i++)
+			rows.add(new ProductListRow((long) i + 1, randomLeafCategory(random), 1L + random.nextInt(SELLERS),
+					1L, "상품 " + i, 1000 * (1 + random.nextInt(200)), random.nextInt(3) * 500,
+					random.nextInt(100), "https://cdn.example.com/products/" + i + ".jpg", ProductStatus.APPROVED,
+					"택배사", 3000, random.nextInt(500), random.nextInt(1000), random.nextInt(11) / 2.0,
+					LocalDateTime.now().minusMinutes(random.nextInt(100_000))));
+		return rows;
+	}
+
+	public static List<ProductSearchRow> searchRows(int count, long seed) {
+		Random random = new Random(seed);
+		List<ProductSearchRow> rows = new ArrayList<>(count);
+		for (int i = 0; i < count; i++)
+			rows.add(new ProductSearchRow((long) i + 1, 1L + random.nextInt(SELLERS), randomLeafCategory(random),
+					"상품 " + i, ProductStatus.APPROVED, 1000 * (1 + random.nextInt(200)), random.nextInt(3) * 500,
+					random.nextInt(11) / 2.0, random.nextInt(500), random.nextInt(1000),
+					LocalDateTime.now().minusMinutes(random.nextInt(100_000))));
+		return rows;
+	}
+
+	public static Map<Long, SellerProfile> sellers() {
+		Map<Long, SellerProfile> sellers = new HashMap<>();
+		for (long userId = 1; userId <= SELLERS; userId++)
+			sellers.put(userId, new SellerProfile(userId, "판매자" + userId, "브랜드" + userId));
+		return sellers;
+	}
+}
@@ -0,0 +1,15 @@
+package org.ezon.msa.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// benchmarks.jar 진입점: JMH 명령행 옵션 그대로 + GC 프로파일러(할당량) 항상 추가
+public class BenchmarkRunner {
+
+	public static void main(String[] args) throws Exception {
+		CommandLineOptions cli = new CommandLineOptions(args);
+		new Runner(new OptionsBuilder().parent(cli).addProfiler(GCProfiler.class).build()).run();
+	}
+}
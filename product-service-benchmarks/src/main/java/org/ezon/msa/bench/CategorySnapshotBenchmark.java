@@ -0,0 +1,60 @@
+package org.ezon.msa.bench;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.ezon.msa.entity.Category;
+import org.ezon.msa.service.CategorySnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// 카테고리 경로(getCategoryPath), 팝업 계층(getCategoryHierarchy), 스냅샷 재생성 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CategorySnapshotBenchmark {
+
+	private List<Category> categories;
+	private CategorySnapshot snapshot;
+	private long[] lookups;
+	private int next;
+
+	@Setup
+	public void setup() {
+		categories = BenchmarkData.categories();
+		snapshot = CategorySnapshot.of(categories);
+		Random random = new Random(3);
+		lookups = new long[1024];
+		for (int i = 0; i < lookups.length; i++)
+			lookups[i] = BenchmarkData.randomLeafCategory(random);
+	}
+
+	@Benchmark
+	public List<String> path() {
+		return snapshot.path(lookups[next++ & (lookups.length - 1)]);
+	}
+
+	@Benchmark
+	public List<Map<String, Object>> hierarchy() {
+		return snapshot.hierarchy();
+	}
+
+	// 관리자 카테고리 변경/주기 갱신 시 1회
+	@Benchmark
+	public CategorySnapshot rebuild() {
+		return CategorySnapshot.of(categories);
+	}
+}
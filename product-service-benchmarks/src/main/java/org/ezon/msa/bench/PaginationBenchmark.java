@@ -0,0 +1,52 @@
+package org.ezon.msa.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.ezon.msa.dto.Pagination;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Pagination.paging (전체 목록에서 한 페이지 복사)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaginationBenchmark {
+
+	@Param({ "1000", "100000" })
+	int total;
+
+	private List<Long> list;
+	private int lastPage;
+
+	@Setup
+	public void setup() {
+		list = new ArrayList<>(total);
+		for (long i = 0; i < total; i++)
+			list.add(i);
+		lastPage = Pagination.totalPage(list);
+	}
+
+	@Benchmark
+	public List<Long> firstPage() {
+		return Pagination.paging(list, 1);
+	}
+
+	@Benchmark
+	public List<Long> lastPage() {
+		return Pagination.paging(list, lastPage);
+	}
+}
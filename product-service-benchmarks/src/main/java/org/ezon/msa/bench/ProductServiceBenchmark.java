@@ -0,0 +1,102 @@
+package org.ezon.msa.bench;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.ezon.msa.client.SellerProfileClient;
+import org.ezon.msa.config.EnrichmentExecutor;
+import org.ezon.msa.dto.ProductListRow;
+import org.ezon.msa.dto.ProductView;
+import org.ezon.msa.dto.SellerProfile;
+import org.ezon.msa.enums.ProductStatus;
+import org.ezon.msa.flashsale.FlashSaleService;
+import org.ezon.msa.repository.ProductRepository;
+import org.ezon.msa.search.ProductAutocomplete;
+import org.ezon.msa.search.ProductColumns;
+import org.ezon.msa.search.ProductSearchIndex;
+import org.ezon.msa.service.CartProductCache;
+import org.ezon.msa.service.CategorySnapshot;
+import org.ezon.msa.service.CategorySnapshotService;
+import org.ezon.msa.service.ProductEnricher;
+import org.ezon.msa.service.ProductService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.web.client.RestTemplate;
+
+// ProductService 목록 응답 (저장소/외부 호출은 대역, 목록 변환 + 판매자/카테고리 보강 비용만)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductServiceBenchmark {
+
+	@Param({ "20", "100" })
+	int pageSize;
+
+	private ProductService productService;
+
+	@Setup
+	public void setup() {
+		List<ProductListRow> rows = BenchmarkData.listRows(pageSize, 11);
+		Map<Long, SellerProfile> sellers = BenchmarkData.sellers();
+		CategorySnapshot categories = CategorySnapshot.of(BenchmarkData.categories());
+
+		ProductRepository productRepository = mock(ProductRepository.class);
+		when(productRepository.findByStatus(ProductStatus.APPROVED)).thenReturn(rows);
+		when(productRepository.findByProductIdIn(anyList())).thenReturn(rows);
+
+		SellerProfileClient sellerProfileClient = mock(SellerProfileClient.class);
+		when(sellerProfileClient.getProfilesAsync(anyCollection()))
+				.thenReturn(CompletableFuture.completedFuture(sellers));
+		CategorySnapshotService categorySnapshotService = mock(CategorySnapshotService.class);
+		when(categorySnapshotService.getIfLoaded()).thenReturn(categories);
+		when(categorySnapshotService.get()).thenReturn(categories);
+		ProductEnricher productEnricher = new ProductEnricher(sellerProfileClient, categorySnapshotService,
+				mock(EnrichmentExecutor.class), 2000);
+
+		// 검색은 색인/컬럼 스냅샷이 id 만 돌려주고 나머지는 목록 조회와 같은 경로
+		int[] ids = rows.stream().mapToInt(row -> row.productId().intValue()).toArray();
+		ProductSearchIndex productSearchIndex = mock(ProductSearchIndex.class);
+		when(productSearchIndex.search(any(), anyBoolean(), eq(ProductStatus.APPROVED), isNull())).thenReturn(ids);
+		ProductColumns productColumns = mock(ProductColumns.class);
+		when(productColumns.search(any(), any(), any(), any(), anyInt())).thenReturn(ids);
+
+		productService = new ProductService(mock(RestTemplate.class), productEnricher, mock(CartProductCache.class),
+				mock(FlashSaleService.class), productRepository, categorySnapshotService, productSearchIndex,
+				productColumns, mock(ProductAutocomplete.class), mock(ApplicationEventPublisher.class), 20);
+	}
+
+	@Benchmark
+	public List<ProductView> buyerList() {
+		return productService.getProductList(null, "USER", null, null);
+	}
+
+	@Benchmark
+	public List<ProductView> search() {
+		return productService.searchProductsAll("상품", null, 10_000, null, null, "price_asc");
+	}
+}
@@ -0,0 +1,107 @@
+package org.ezon.msa.bench;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.ezon.msa.dto.ProductListRow;
+import org.ezon.msa.dto.ProductView;
+import org.ezon.msa.dto.SellerProfile;
+import org.ezon.msa.service.CategorySnapshot;
+import org.ezon.msa.service.ProductEnrichment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+// 목록 한 페이지 응답 생성: ProductView 레코드 vs 예전 행별 LinkedHashMap
+// JSON 직렬화까지 포함한 경우도 비교 (gc.alloc.rate.norm = 페이지당 할당 바이트)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductViewBenchmark {
+
+	@Param({ "20", "100" })
+	int pageSize;
+
+	private List<ProductListRow> rows;
+	private ProductEnrichment enrichment;
+	private ObjectMapper objectMapper;
+
+	@Setup
+	public void setup() {
+		rows = BenchmarkData.listRows(pageSize, 7);
+		enrichment = new ProductEnrichment(BenchmarkData.sellers(), CategorySnapshot.of(BenchmarkData.categories()));
+		objectMapper = new ObjectMapper().findAndRegisterModules()
+				.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+	}
+
+	@Benchmark
+	public List<ProductView> records() {
+		return rows.stream().map(enrichment::view).toList();
+	}
+
+	@Benchmark
+	public List<Map<String, Object>> maps() {
+		List<Map<String, Object>> result = new ArrayList<>(rows.size());
+		for (ProductListRow row : rows)
+			result.add(toMap(row));
+		return result;
+	}
+
+	@Benchmark
+	public byte[] recordsJson() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(records());
+	}
+
+	@Benchmark
+	public byte[] mapsJson() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(maps());
+	}
+
+	// ProductView 도입 전 ProductService.toMap 과 같은 키/순서
+	private Map<String, Object> toMap(ProductListRow p) {
+		SellerProfile seller = enrichment.seller(p.userId());
+		List<String> categoryPath = enrichment.categoryPath(p.categoryId());
+		Map<String, Object> map = new LinkedHashMap<>();
+		map.put("productId", p.productId());
+		map.put("categoryId", p.categoryId());
+		map.put("userId", p.userId());
+		map.put("sellerAddressId", p.sellerAddressId());
+		map.put("name", p.name());
+		map.put("userName", seller.name());
+		map.put("description", null);
+		map.put("price", p.price());
+		map.put("discountPrice", p.discountPrice());
+		map.put("stockQuantity", p.stockQuantity());
+		map.put("image", p.image());
+		map.put("status", p.status());
+		map.put("courierName", p.courierName());
+		map.put("shippingFee", p.shippingFee());
+		map.put("reviewCount", p.reviewCount());
+		map.put("salesCount", p.salesCount());
+		map.put("averageRating", p.averageRating());
+		map.put("addedAt", p.addedAt() != null ? p.addedAt().toLocalDate() : null);
+		map.put("categoryPath", categoryPath);
+		map.put("brand", seller.companyName());
+		map.put("categoryName", !categoryPath.isEmpty() ? categoryPath.get(categoryPath.size() - 1) : "");
+		map.put("brandName", seller.companyName());
+		return map;
+	}
+}
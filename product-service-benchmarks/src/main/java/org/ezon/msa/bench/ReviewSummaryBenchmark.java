@@ -0,0 +1,78 @@
+package org.ezon.msa.bench;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.ezon.msa.dto.ReviewSummary;
+import org.ezon.msa.repository.ProductRepository;
+import org.ezon.msa.repository.ReviewRepository;
+import org.ezon.msa.service.ProductService;
+import org.ezon.msa.service.ReviewService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// ReviewService 리뷰 요약 일괄 조회 (저장소는 대역, 집계 컬럼 프로젝션 생성 + 요청 순서 정렬 비용)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReviewSummaryBenchmark {
+
+	@Param({ "20", "1000" })
+	int productCount;
+
+	private ReviewService reviewService;
+	private List<Long> productIds;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(5);
+		productIds = new ArrayList<>(productCount);
+		int[] counts = new int[productCount];
+		long[] sums = new long[productCount];
+		for (int i = 0; i < productCount; i++) {
+			productIds.add((long) i + 1);
+			// 1/10 은 리뷰 없는 상품 (조회 결과에 없음)
+			counts[i] = random.nextInt(10) == 0 ? 0 : 1 + random.nextInt(500);
+			sums[i] = counts[i] * (1 + random.nextInt(5));
+		}
+
+		ProductRepository productRepository = mock(ProductRepository.class);
+		when(productRepository.findReviewSummaries(anyCollection())).thenAnswer(invocation -> {
+			Collection<Long> ids = invocation.getArgument(0);
+			List<ReviewSummary> rows = new ArrayList<>(ids.size());
+			for (Long id : ids) {
+				int index = (int) (id - 1);
+				if (counts[index] > 0)
+					rows.add(new ReviewSummary(id, counts[index], sums[index]));
+			}
+			return rows;
+		});
+		reviewService = new ReviewService(mock(ReviewRepository.class), mock(ProductService.class),
+				productRepository, 20);
+	}
+
+	@Benchmark
+	public Map<Long, ReviewSummary> summaries() {
+		return reviewService.getReviewSummaryForProductIdList(productIds);
+	}
+}
@@ -0,0 +1,110 @@
+package org.ezon.msa.load;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// 부하 테스트용 카탈로그 적재 (Flyway 로 만든 스키마에 JDBC 배치 INSERT)
+// - 대분류 x 중분류 카테고리, 상품(뒤쪽 10% 는 PENDING), 리뷰(주문 항목마다 하나)
+// - 상품명은 NOUNS 조합이라 키워드 검색/자동완성 시나리오가 실제로 결과를 찾음
+// - 리뷰 집계(product.review_count 등)는 호출 측에서 rebuildReviewStats 로 맞춤
+public class CatalogSeeder {
+
+	static final String[] NOUNS = { "사과", "노트북", "운동화", "셔츠", "커피", "의자", "가방", "시계", "이어폰", "텀블러",
+			"모니터", "키보드", "청바지", "샴푸", "캠핑의자", "우산" };
+	static final String[] ADJECTIVES = { "프리미엄", "가벼운", "튼튼한", "무선", "유기농", "빈티지", "미니", "대용량" };
+
+	private static final int BATCH_SIZE = 5_000;
+	private static final int REVIEWERS = 50_000;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final LoadOptions options;
+
+	public CatalogSeeder(JdbcTemplate jdbcTemplate, LoadOptions options) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.options = options;
+	}
+
+	public Catalog seed() {
+		Random random = new Random(options.seed());
+		List<Long> rootIds = new ArrayList<>();
+		List<Long> leafIds = new ArrayList<>();
+		for (int root = 0; root < options.rootCategories(); root++) {
+			long rootId = insertCategory("대분류" + root, null);
+			rootIds.add(rootId);
+			for (int child = 0; child < options.childCategories(); child++)
+				leafIds.add(insertCategory("중분류" + root + "-" + child, rootId));
+		}
+
+		LocalDateTime now = LocalDateTime.now();
+		int approved = options.products() - options.products() / 10;
+		List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+		for (int i = 0; i < options.products(); i++) {
+			String name = ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " " + NOUNS[random.nextInt(NOUNS.length)]
+					+ " " + i;
+			String status = i < approved ? "APPROVED" : "PENDING";
+			batch.add(new Object[] { leafIds.get(random.nextInt(leafIds.size())), 1 + random.nextInt(options.sellers()),
+					name, 1000 * (1 + random.nextInt(200)), random.nextInt(4) * 500, random.nextInt(100), status,
+					Timestamp.valueOf(now.minusMinutes(random.nextInt(500_000))), random.nextInt(5_000),
+					random.nextInt(50_000) });
+			if (batch.size() == BATCH_SIZE || i == options.products() - 1) {
+				insertProducts(batch);
+				batch.clear();
+			}
+		}
+
+		long firstProductId = jdbcTemplate.queryForObject("SELECT MIN(product_id) FROM product", Long.class);
+		for (int i = 0; i < options.reviews(); i++) {
+			batch.add(new Object[] { 1 + random.nextInt(REVIEWERS), firstProductId + random.nextInt(options.products()),
+					i + 1L, Timestamp.valueOf(now.minusMinutes(random.nextInt(500_000))), 1 + random.nextInt(5) });
+			if (batch.size() == BATCH_SIZE || i == options.reviews() - 1) {
+				insertReviews(batch);
+				batch.clear();
+			}
+		}
+
+		return new Catalog(rootIds, leafIds, firstProductId, approved);
+	}
+
+	private long insertCategory(String name, Long parentId) {
+		jdbcTemplate.update("INSERT INTO category (name, parent_id) VALUES (?, ?)", name, parentId);
+		return jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class);
+	}
+
+	private void insertProducts(List<Object[]> batch) {
+		jdbcTemplate.batchUpdate("""
+				INSERT INTO product (category_id, user_id, seller_address_id, name, description, price, discount_price,
+				    stock_quantity, image, status, added_at, review_count, sales_count, view_count, courier_name,
+				    shipping_fee, is_approved, average_rating, rating_sum, rating1_count, rating2_count,
+				    rating3_count, rating4_count, rating5_count)
+				VALUES (?, ?, 1, ?, '상품 상세 설명', ?, ?, ?, 'https://cdn.example.com/products/image.jpg', ?, ?, 0, ?, ?,
+				    '택배사', 3000, 1, 0, 0, 0, 0, 0, 0, 0)
+				""", batch);
+	}
+
+	private void insertReviews(List<Object[]> batch) {
+		jdbcTemplate.batchUpdate("""
+				INSERT INTO review (user_id, product_id, order_item_id, content, created_at, rating)
+				VALUES (?, ?, ?, '배송이 빠르고 상품도 설명과 같아요', ?, ?)
+				""", batch);
+	}
+
+	// 시나리오가 요청 파라미터를 고를 때 쓰는 적재 결과 (판매중 상품은 firstProductId 부터 approvedCount 개)
+	public record Catalog(List<Long> rootCategoryIds, List<Long> leafCategoryIds, long firstProductId,
+			int approvedCount) {
+
+		public long randomProductId(Random random) {
+			return firstProductId + random.nextInt(approvedCount);
+		}
+
+		public long randomCategoryId(Random random) {
+			// 대분류(하위 포함) 1 : 중분류 3
+			List<Long> ids = random.nextInt(4) == 0 ? rootCategoryIds : leafCategoryIds;
+			return ids.get(random.nextInt(ids.size()));
+		}
+	}
+}
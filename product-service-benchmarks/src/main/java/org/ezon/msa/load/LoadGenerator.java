@@ -0,0 +1,141 @@
+package org.ezon.msa.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+// 고정 요청률(open model) 부하 발생기
+// - 요청 i 의 예정 시각 = 시작 + i / rate. 응답을 기다리지 않고 예정 시각마다 비동기로 보냄
+// - 지연 시간은 예정 시각부터 응답 완료까지 (서버가 밀려 늦게 보낸 시간도 포함해 coordinated omission 을 피함)
+// - 시나리오는 weight 비율로 무작위 선택
+public class LoadGenerator {
+
+	private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+	private final HttpClient httpClient = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_1_1)
+			.connectTimeout(Duration.ofSeconds(5))
+			.build();
+	private final String baseUrl;
+	private final List<Scenario> scenarios;
+	private final int totalWeight;
+	private final Random random;
+
+	public LoadGenerator(String baseUrl, List<Scenario> scenarios, long seed) {
+		if (scenarios.isEmpty())
+			throw new IllegalArgumentException("no scenarios to run");
+		this.baseUrl = baseUrl;
+		this.scenarios = scenarios;
+		this.totalWeight = scenarios.stream().mapToInt(Scenario::weight).sum();
+		this.random = new Random(seed);
+	}
+
+	// rate(초당 요청) 로 duration 동안 보내고, 보낸 요청이 모두 끝나면 시나리오별 결과
+	public Map<String, LatencyRecorder> run(int rate, Duration duration) throws InterruptedException {
+		Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+		int expected = (int) Math.min(Integer.MAX_VALUE, (long) rate * duration.toSeconds());
+		for (Scenario scenario : scenarios)
+			recorders.put(scenario.name(), new LatencyRecorder(expected * scenario.weight() / totalWeight + 16));
+
+		AtomicInteger inFlight = new AtomicInteger();
+		long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+		long start = System.nanoTime();
+		long end = start + duration.toNanos();
+		for (long i = 0;; i++) {
+			long intended = start + i * intervalNanos;
+			if (intended >= end)
+				break;
+			long wait;
+			while ((wait = intended - System.nanoTime()) > 0)
+				LockSupport.parkNanos(wait);
+
+			Scenario scenario = pick();
+			LatencyRecorder recorder = recorders.get(scenario.name());
+			HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + scenario.path().apply(random)))
+					.timeout(REQUEST_TIMEOUT);
+			if (scenario.body() == null)
+				builder.GET();
+			else
+				builder.header("Content-Type", "application/json")
+						.POST(HttpRequest.BodyPublishers.ofString(scenario.body().apply(random)));
+			HttpRequest request = builder.build();
+			inFlight.incrementAndGet();
+			httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, e) -> {
+				recorder.record(System.nanoTime() - intended,
+						e == null && response.statusCode() >= 200 && response.statusCode() < 300);
+				inFlight.decrementAndGet();
+			});
+		}
+		// 요청 제한 시간이 지나면 모두 완료(또는 실패)로 기록됨
+		long deadline = System.nanoTime() + REQUEST_TIMEOUT.plusSeconds(5).toNanos();
+		while (inFlight.get() > 0) {
+			if (System.nanoTime() > deadline)
+				throw new IllegalStateException(inFlight.get() + " requests still in flight after " + REQUEST_TIMEOUT);
+			Thread.sleep(10);
+		}
+		return recorders;
+	}
+
+	private Scenario pick() {
+		int r = random.nextInt(totalWeight);
+		for (Scenario scenario : scenarios) {
+			r -= scenario.weight();
+			if (r < 0)
+				return scenario;
+		}
+		return scenarios.get(scenarios.size() - 1);
+	}
+
+	// 시나리오 하나의 지연 시간 기록 (측정 구간 요청 수만큼 배열에 모아 끝난 뒤 정렬)
+	public static final class LatencyRecorder {
+
+		private long[] latencies;
+		private int count;
+		private int errors;
+
+		LatencyRecorder(int initialCapacity) {
+			latencies = new long[Math.max(16, initialCapacity)];
+		}
+
+		synchronized void record(long latencyNanos, boolean success) {
+			if (count == latencies.length)
+				latencies = Arrays.copyOf(latencies, count * 2);
+			latencies[count++] = latencyNanos;
+			if (!success)
+				errors++;
+		}
+
+		public synchronized int count() {
+			return count;
+		}
+
+		public synchronized int errors() {
+			return errors;
+		}
+
+		// 정렬된 지연 시간 (나노초)
+		public synchronized long[] sorted() {
+			long[] result = Arrays.copyOf(latencies, count);
+			Arrays.sort(result);
+			return result;
+		}
+
+		// p (0..1) 백분위 지연 시간, 기록이 없으면 0
+		public static long percentile(long[] sorted, double p) {
+			if (sorted.length == 0)
+				return 0;
+			int index = (int) Math.ceil(p * sorted.length) - 1;
+			return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+		}
+	}
+}
@@ -0,0 +1,42 @@
+package org.ezon.msa.load;
+
+import java.util.List;
+
+// 부하 테스트 옵션 (시스템 속성 -Dload.<이름>=값, 없으면 기본값)
+// - 카탈로그: products / reviews / sellers / rootCategories x childCategories
+// - 외부 서비스 대역 응답 지연: userLatencyMs / deliveryLatencyMs / qnaLatencyMs (+ 0..latencyJitterMs 무작위)
+// - userBulk: 사용자 서비스 대역이 bulk 조회를 지원할지 (기본 false, 실제 사용자 서비스처럼 404 → 판매자별 조회)
+// - 부하: rate(초당 요청) 로 warmupSeconds 동안 예열 후 durationSeconds 동안 측정
+// - scenarios: 실행할 시나리오 이름 (쉼표 구분, 비우면 전체)
+public record LoadOptions(int products, int reviews, int sellers, int rootCategories, int childCategories,
+		long userLatencyMs, long deliveryLatencyMs, long qnaLatencyMs, long latencyJitterMs, boolean userBulk,
+		int rate, int warmupSeconds, int durationSeconds, List<String> scenarios, long seed) {
+
+	public static LoadOptions fromSystemProperties() {
+		String scenarios = System.getProperty("load.scenarios", "");
+		return new LoadOptions(
+				intOption("products", 100_000),
+				intOption("reviews", 1_000_000),
+				intOption("sellers", 2_000),
+				intOption("rootCategories", 20),
+				intOption("childCategories", 10),
+				longOption("userLatencyMs", 20),
+				longOption("deliveryLatencyMs", 20),
+				longOption("qnaLatencyMs", 50),
+				longOption("latencyJitterMs", 10),
+				Boolean.parseBoolean(System.getProperty("load.userBulk", "false")),
+				intOption("rate", 200),
+				intOption("warmupSeconds", 20),
+				intOption("durationSeconds", 60),
+				scenarios.isBlank() ? List.of() : List.of(scenarios.split("\\s*,\\s*")),
+				longOption("seed", 42));
+	}
+
+	private static int intOption(String name, int defaultValue) {
+		return Integer.parseInt(System.getProperty("load." + name, String.valueOf(defaultValue)));
+	}
+
+	private static long longOption(String name, long defaultValue) {
+		return Long.parseLong(System.getProperty("load." + name, String.valueOf(defaultValue)));
+	}
+}
@@ -0,0 +1,123 @@
+package org.ezon.msa.load;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.ezon.msa.ProductServiceApplication;
+import org.ezon.msa.load.CatalogSeeder.Catalog;
+import org.ezon.msa.load.LoadGenerator.LatencyRecorder;
+import org.ezon.msa.search.ProductAutocomplete;
+import org.ezon.msa.search.ProductColumns;
+import org.ezon.msa.search.ProductSearchIndex;
+import org.ezon.msa.service.CategorySnapshotService;
+import org.ezon.msa.service.ProductService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+
+// 상품 서비스 종단 간 부하 테스트
+// 1. 내장 MariaDB, 외부 서비스 대역(StubServices) 기동 → 애플리케이션 기동 (Flyway 마이그레이션, 임의 포트)
+// 2. 카탈로그 적재 후 리뷰 집계/카테고리 스냅샷/검색 색인/컬럼 스냅샷 재적재
+// 3. 고정 요청률로 예열 → 측정, 시나리오별 p50/p99/p999/최대 지연과 처리량, 요청당 외부 호출 수 출력
+public class LoadTestRunner {
+
+	public static void main(String[] args) throws Exception {
+		LoadOptions options = LoadOptions.fromSystemProperties();
+		Path workDir = Files.createTempDirectory("product-load-test");
+
+		DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+		config.setPort(0);
+		config.addArg("--user=root");
+		// 한글 상품명/리뷰
+		config.addArg("--character-set-server=utf8mb4");
+		config.addArg("--collation-server=utf8mb4_unicode_ci");
+		DB db = DB.newEmbeddedDB(config.build());
+		db.start();
+		db.createDB("ezon");
+
+		// application.properties 보다 우선하도록 시스템 속성으로 (이미 -D 로 준 값은 그대로)
+		defaultProperty("server.port", "0");
+		defaultProperty("spring.datasource.url", "jdbc:mysql://localhost:" + config.getPort()
+				+ "/ezon?rewriteBatchedStatements=true");
+		defaultProperty("spring.datasource.username", "root");
+		defaultProperty("spring.datasource.password", "");
+		defaultProperty("spring.datasource.hikari.maximum-pool-size", "50");
+		defaultProperty("product.flashsale.journalPath", workDir.resolve("flash-sale.journal").toString());
+
+		try (StubServices stubs = new StubServices(options).start();
+				ConfigurableApplicationContext context = new SpringApplicationBuilder(ProductServiceApplication.class)
+						.run(args)) {
+			long started = System.nanoTime();
+			Catalog catalog = new CatalogSeeder(context.getBean(JdbcTemplate.class), options).seed();
+			context.getBean(ProductService.class).rebuildReviewStats();
+			context.getBean(CategorySnapshotService.class).refresh();
+			context.getBean(ProductSearchIndex.class).rebuild();
+			context.getBean(ProductColumns.class).rebuild();
+			context.getBean(ProductAutocomplete.class).load();
+			System.out.printf("seeded %,d products, %,d reviews in %.1fs%n", options.products(), options.reviews(),
+					(System.nanoTime() - started) / 1e9);
+
+			int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+			List<Scenario> scenarios = Scenario.all(catalog).stream()
+					.filter(s -> options.scenarios().isEmpty() || options.scenarios().contains(s.name()))
+					.toList();
+			LoadGenerator generator = new LoadGenerator("http://localhost:" + port, scenarios, options.seed());
+
+			System.out.printf("warmup: %d req/s for %ds%n", options.rate(), options.warmupSeconds());
+			generator.run(options.rate(), Duration.ofSeconds(options.warmupSeconds()));
+
+			Map<String, Long> callsBefore = stubs.callCounts();
+			System.out.printf("measure: %d req/s for %ds%n", options.rate(), options.durationSeconds());
+			started = System.nanoTime();
+			Map<String, LatencyRecorder> results = generator.run(options.rate(),
+					Duration.ofSeconds(options.durationSeconds()));
+			double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+			report(results, elapsedSeconds, callsBefore, stubs.callCounts(), options.userBulk());
+		} finally {
+			db.stop();
+		}
+	}
+
+	private static void defaultProperty(String key, String value) {
+		if (System.getProperty(key) == null)
+			System.setProperty(key, value);
+	}
+
+	private static void report(Map<String, LatencyRecorder> results, double elapsedSeconds,
+			Map<String, Long> callsBefore, Map<String, Long> callsAfter, boolean userBulk) {
+		System.out.printf("%n%-22s %9s %7s %9s %9s %9s %9s %9s%n", "scenario", "requests", "errors", "req/s",
+				"p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+		int totalRequests = 0;
+		int totalErrors = 0;
+		for (Map.Entry<String, LatencyRecorder> entry : results.entrySet()) {
+			LatencyRecorder recorder = entry.getValue();
+			long[] sorted = recorder.sorted();
+			totalRequests += recorder.count();
+			totalErrors += recorder.errors();
+			System.out.printf("%-22s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n", entry.getKey(), recorder.count(),
+					recorder.errors(), recorder.count() / elapsedSeconds, millis(LatencyRecorder.percentile(sorted, 0.5)),
+					millis(LatencyRecorder.percentile(sorted, 0.99)), millis(LatencyRecorder.percentile(sorted, 0.999)),
+					millis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]));
+		}
+		System.out.printf("%-22s %9d %7d %9.1f%n", "total", totalRequests, totalErrors, totalRequests / elapsedSeconds);
+
+		System.out.printf("%ndownstream calls per request (user bulk endpoint: %s):%n",
+				userBulk ? "enabled" : "disabled, per-seller fallback");
+		for (Map.Entry<String, Long> entry : callsAfter.entrySet()) {
+			long calls = entry.getValue() - callsBefore.getOrDefault(entry.getKey(), 0L);
+			System.out.printf("  %-10s %9d (%.3f/req)%n", entry.getKey(), calls,
+					totalRequests == 0 ? 0.0 : (double) calls / totalRequests);
+		}
+	}
+
+	private static double millis(long nanos) {
+		return nanos / 1e6;
+	}
+}
@@ -0,0 +1,55 @@
+package org.ezon.msa.load;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+import java.util.StringJoiner;
+import java.util.function.Function;
+
+import org.ezon.msa.load.CatalogSeeder.Catalog;
+
+// 부하 시나리오: 비중(weight)만큼 섞어서 보낼 요청 하나 (경로/본문은 무작위 파라미터로 매번 생성)
+// body 가 있으면 JSON POST, 없으면 GET
+public record Scenario(String name, int weight, Function<Random, String> path, Function<Random, String> body) {
+
+	public Scenario(String name, int weight, Function<Random, String> path) {
+		this(name, weight, path, null);
+	}
+
+	private static final String[] SORTS = { "", "price_asc", "price_desc", "rating_desc", "newest" };
+
+	// ProductController / SearchController / ReviewController API (문의 등록은 문의 서비스 대역까지 호출)
+	public static List<Scenario> all(Catalog catalog) {
+		return List.of(
+				new Scenario("product.scroll", 25, random -> "/api/products/scroll?categoryId="
+						+ catalog.randomCategoryId(random) + "&sort=" + SORTS[random.nextInt(SORTS.length)] + "&size=20"),
+				new Scenario("product.facets", 5, random -> "/api/products?facets=true&categoryId="
+						+ catalog.leafCategoryIds().get(random.nextInt(catalog.leafCategoryIds().size()))
+						+ "&minPrice=10000&maxPrice=100000"),
+				new Scenario("product.detail", 20, random -> "/api/products/" + catalog.randomProductId(random)),
+				new Scenario("search.keyword", 15, random -> "/api/search/products?keyword="
+						+ encode(noun(random)) + "&page=1&size=20"),
+				new Scenario("search.autocomplete", 10, random -> "/api/search/products/autocomplete?prefix="
+						+ encode(noun(random).substring(0, 1))),
+				new Scenario("review.list", 15, random -> "/api/products/product/" + catalog.randomProductId(random)
+						+ "/reviews?sort=" + (random.nextBoolean() ? "newest" : "rating_desc") + "&size=20"),
+				new Scenario("review.summary", 10, random -> {
+					StringJoiner ids = new StringJoiner(",");
+					for (int i = 0; i < 20; i++)
+						ids.add(String.valueOf(catalog.randomProductId(random)));
+					return "/api/products/reviews/summary?productIds=" + ids;
+				}),
+				new Scenario("product.qna", 2, random -> "/api/products/" + catalog.randomProductId(random)
+						+ "/oneToOnes", random -> "{\"userId\":" + (1 + random.nextInt(50_000))
+								+ ",\"title\":\"배송 문의\",\"content\":\"언제 출고되나요?\"}"));
+	}
+
+	private static String noun(Random random) {
+		return CatalogSeeder.NOUNS[random.nextInt(CatalogSeeder.NOUNS.length)];
+	}
+
+	private static String encode(String value) {
+		return URLEncoder.encode(value, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,183 @@
+package org.ezon.msa.load;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.BindException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.ezon.msa.client.OutboundClients;
+import org.ezon.msa.common.ApiEndpointConstants;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+// 외부 서비스(사용자/배송/문의) 대역 HTTP 서버
+// - ApiEndpointConstants 의 주소(게이트웨이, 사용자 서비스 직접 호출) 포트에 그대로 뜸
+// - 서비스별로 고정 지연 + 0..jitter 무작위 지연 후 응답
+// - 서비스별 호출 수를 세서 요청당 외부 호출 수를 보고
+// - 사용자 bulk 조회는 userBulk 옵션일 때만 응답 (기본은 실제 사용자 서비스처럼 404)
+public class StubServices implements AutoCloseable {
+
+	private static final Object NOT_FOUND = new Object();
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+	private final List<HttpServer> servers = new ArrayList<>();
+	private final Map<String, AtomicLong> calls = new LinkedHashMap<>();
+	private final LoadOptions options;
+
+	public StubServices(LoadOptions options) {
+		this.options = options;
+		calls.put(OutboundClients.USER, new AtomicLong());
+		calls.put(OutboundClients.DELIVERY, new AtomicLong());
+		calls.put(OutboundClients.QNA, new AtomicLong());
+	}
+
+	public StubServices start() throws IOException {
+		HttpServer gateway = server(ApiEndpointConstants.GATEWAY_BASE_URL);
+		// GET /api/profile/users/{userId}, POST /api/profile/users/bulk (userBulk 일 때만)
+		gateway.createContext(path(ApiEndpointConstants.PROFILE_SERVICE_URL),
+				stub(OutboundClients.USER, options.userLatencyMs(), this::profile));
+		// GET /api/delivery/seller/all?userId= (ProductService.getSellerAddresses, 아직 이 경로를 쓰는 API 는 없음)
+		gateway.createContext(path(ApiEndpointConstants.DELIVERY_SERVICE_URL),
+				stub(OutboundClients.DELIVERY, options.deliveryLatencyMs(), this::delivery));
+		// POST /api/oneToOnes
+		gateway.createContext(path(ApiEndpointConstants.QNA_SERVICE_URL),
+				stub(OutboundClients.QNA, options.qnaLatencyMs(), exchange -> null));
+
+		HttpServer userDirect = ApiEndpointConstants.USER_DIRECT_URL.startsWith(ApiEndpointConstants.GATEWAY_BASE_URL)
+				? gateway : server(ApiEndpointConstants.USER_DIRECT_URL);
+		// GET /api/users/{userId}
+		userDirect.createContext(path(ApiEndpointConstants.USER_DIRECT_URL),
+				stub(OutboundClients.USER, options.userLatencyMs(), this::userName));
+
+		servers.forEach(HttpServer::start);
+		return this;
+	}
+
+	// 서비스별 호출 수 (user/delivery/qna)
+	public Map<String, Long> callCounts() {
+		Map<String, Long> result = new LinkedHashMap<>();
+		calls.forEach((name, count) -> result.put(name, count.get()));
+		return result;
+	}
+
+	@Override
+	public void close() {
+		servers.forEach(server -> server.stop(0));
+		executor.shutdownNow();
+	}
+
+	private HttpServer server(String baseUrl) throws IOException {
+		int port = URI.create(baseUrl).getPort();
+		try {
+			HttpServer server = HttpServer.create(new InetSocketAddress("localhost", port), 1024);
+			server.setExecutor(executor);
+			servers.add(server);
+			return server;
+		} catch (BindException e) {
+			throw new IllegalStateException("stub port " + port + " (" + baseUrl + ") is already in use", e);
+		}
+	}
+
+	private static String path(String url) {
+		return URI.create(url).getPath();
+	}
+
+	private HttpHandler stub(String service, long latencyMs, Responder responder) {
+		AtomicLong counter = calls.get(service);
+		return exchange -> {
+			try (exchange) {
+				counter.incrementAndGet();
+				sleep(latencyMs);
+				Object body = responder.respond(exchange);
+				if (body == NOT_FOUND) {
+					exchange.sendResponseHeaders(404, -1);
+					return;
+				}
+				if (body == null) {
+					exchange.sendResponseHeaders(200, -1);
+					return;
+				}
+				byte[] json = objectMapper.writeValueAsBytes(body);
+				exchange.getResponseHeaders().set("Content-Type", "application/json");
+				exchange.sendResponseHeaders(200, json.length);
+				try (OutputStream out = exchange.getResponseBody()) {
+					out.write(json);
+				}
+			} catch (RuntimeException e) {
+				exchange.sendResponseHeaders(500, -1);
+			}
+		};
+	}
+
+	private void sleep(long latencyMs) {
+		long jitter = options.latencyJitterMs() > 0
+				? ThreadLocalRandom.current().nextLong(options.latencyJitterMs() + 1) : 0;
+		try {
+			Thread.sleep(latencyMs + jitter);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private Object profile(HttpExchange exchange) throws IOException {
+		String path = exchange.getRequestURI().getPath();
+		if (path.equals(path(ApiEndpointConstants.USER_BULK_URL))) {
+			if (!options.userBulk())
+				return NOT_FOUND;
+			JsonNode request = readJson(exchange);
+			List<Map<String, Object>> users = new ArrayList<>();
+			for (JsonNode userId : request.path("userIds"))
+				users.add(seller(userId.asLong()));
+			return users;
+		}
+		return seller(lastSegment(path));
+	}
+
+	private Object userName(HttpExchange exchange) {
+		long userId = lastSegment(exchange.getRequestURI().getPath());
+		return Map.of("userId", userId, "name", "판매자" + userId);
+	}
+
+	private Object delivery(HttpExchange exchange) {
+		return List.of(Map.of("addressId", 1, "address", "서울특별시 중구 세종대로 110"));
+	}
+
+	private JsonNode readJson(HttpExchange exchange) throws IOException {
+		try (InputStream in = exchange.getRequestBody()) {
+			return objectMapper.readTree(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+		}
+	}
+
+	private static Map<String, Object> seller(long userId) {
+		Map<String, Object> user = new LinkedHashMap<>();
+		user.put("userId", userId);
+		user.put("name", "판매자" + userId);
+		user.put("companyName", "브랜드" + userId);
+		return user;
+	}
+
+	private static long lastSegment(String path) {
+		return Long.parseLong(path.substring(path.lastIndexOf('/') + 1));
+	}
+
+	@FunctionalInterface
+	private interface Responder {
+		Object respond(HttpExchange exchange) throws IOException;
+	}
+}
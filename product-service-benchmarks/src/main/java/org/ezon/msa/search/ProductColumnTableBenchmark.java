@@ -0,0 +1,78 @@
+package org.ezon.msa.search;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.ezon.msa.bench.BenchmarkData;
+import org.ezon.msa.dto.ProductSearchCondition;
+import org.ezon.msa.dto.ProductSearchRow;
+import org.ezon.msa.enums.ProductSort;
+import org.ezon.msa.enums.ProductStatus;
+import org.ezon.msa.service.CategorySnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// 통합 검색(searchProductsAll/scrollProducts) 필터 + 정렬 + 패싯 (컬럼 스냅샷, package-private 이라 같은 패키지)
+// parallelThreshold 가 행 수보다 크면 단일 스레드
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductColumnTableBenchmark {
+
+	private static final int[] PRICE_BOUNDS = { 10000, 30000, 50000, 100000 };
+
+	@Param({ "100000" })
+	int rows;
+
+	@Param({ "PRICE_ASC", "RATING_DESC", "NEWEST" })
+	ProductSort sort;
+
+	@Param({ "50000", "2147483647" })
+	int parallelThreshold;
+
+	private ProductColumnTable table;
+	private CategorySnapshot categories;
+	private ProductSearchCondition all;
+	private ProductSearchCondition filtered;
+
+	@Setup
+	public void setup() {
+		categories = CategorySnapshot.of(BenchmarkData.categories());
+		table = new ProductColumnTable();
+		table.useCategories(categories);
+		List<ProductSearchRow> data = BenchmarkData.searchRows(rows, 13);
+		for (ProductSearchRow row : data)
+			table.upsert(row);
+		all = new ProductSearchCondition(null, null, null, null, null, ProductStatus.APPROVED);
+		// 대분류 하나(하위 포함) + 가격/평점 범위
+		filtered = new ProductSearchCondition(null, 1L, 10_000, 80_000, 3.0, ProductStatus.APPROVED);
+	}
+
+	@Benchmark
+	public int[] firstPage() {
+		return table.search(all, null, sort, null, 21, parallelThreshold, null);
+	}
+
+	@Benchmark
+	public int[] filteredPage() {
+		return table.search(filtered, null, sort, null, 21, parallelThreshold, null);
+	}
+
+	@Benchmark
+	public int[] allWithFacets() {
+		FacetCounter facets = new FacetCounter(categories, PRICE_BOUNDS);
+		return table.search(all, null, sort, null, 0, parallelThreshold, facets);
+	}
+}
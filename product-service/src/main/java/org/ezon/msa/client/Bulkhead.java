@@ -0,0 +1,37 @@
+package org.ezon.msa.client;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// 외부 서비스별 동시 호출 수 제한
+// 한 서비스가 느려져도 그 서비스 호출만 막히고 나머지 요청 스레드는 계속 처리
+public final class Bulkhead {
+
+	private final Semaphore permits;
+	private final int maxConcurrent;
+	private final long maxWaitMs;
+
+	public Bulkhead(int maxConcurrent, long maxWaitMs) {
+		this.maxConcurrent = Math.max(1, maxConcurrent);
+		this.permits = new Semaphore(this.maxConcurrent);
+		this.maxWaitMs = maxWaitMs;
+	}
+
+	// maxWaitMs 안에 자리가 나지 않으면 false
+	public boolean tryAcquire() {
+		try {
+			return permits.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	public void release() {
+		permits.release();
+	}
+
+	public int inUse() {
+		return maxConcurrent - permits.availablePermits();
+	}
+}
@@ -0,0 +1,88 @@
+package org.ezon.msa.client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 연속 실패 횟수 기반 서킷 브레이커
+// CLOSED: 정상 호출, 연속 failureThreshold 회 실패하면 OPEN
+// OPEN: openMs 동안 호출 차단, 이후 요청 하나만 시험 호출 (HALF_OPEN)
+// HALF_OPEN: 시험 호출이 성공하면 CLOSED, 실패하면 다시 OPEN
+// 상태가 바뀔 때마다 세대(generation)가 올라감. 호출은 시작 시점의 세대로 결과를 알리고,
+// 그 사이 상태가 바뀌었으면 결과를 무시 (OPEN 전에 시작한 느린 성공이 차단을 풀지 않도록)
+public final class CircuitBreaker {
+
+	public enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	// 상태, 세대, OPEN 된 시각을 한 번에 바꾸기 위한 불변 값
+	private record Phase(State state, long generation, long openedAt) {
+	}
+
+	private final int failureThreshold;
+	private final long openNanos;
+	private final AtomicReference<Phase> phase = new AtomicReference<>(new Phase(State.CLOSED, 0, 0));
+	private final AtomicInteger failures = new AtomicInteger();
+
+	public CircuitBreaker(int failureThreshold, long openMs) {
+		this.failureThreshold = Math.max(1, failureThreshold);
+		this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMs);
+	}
+
+	// 호출 가능하면 현재 세대(0 이상), 차단이면 -1
+	// 0 이상을 받았으면 반드시 그 세대로 onSuccess/onFailure/onRejected 중 하나를 호출
+	public long tryAcquire() {
+		Phase current = phase.get();
+		if (current.state() == State.CLOSED)
+			return current.generation();
+		if (current.state() == State.OPEN && System.nanoTime() - current.openedAt() >= openNanos) {
+			Phase trial = new Phase(State.HALF_OPEN, current.generation() + 1, current.openedAt());
+			if (phase.compareAndSet(current, trial))
+				return trial.generation();
+		}
+		return -1;
+	}
+
+	public void onSuccess(long generation) {
+		Phase current = phase.get();
+		if (current.generation() != generation)
+			return;
+		if (current.state() == State.CLOSED)
+			failures.set(0);
+		else
+			transition(current, State.CLOSED);
+	}
+
+	public void onFailure(long generation) {
+		Phase current = phase.get();
+		if (current.generation() != generation)
+			return;
+		if (current.state() == State.HALF_OPEN || failures.incrementAndGet() >= failureThreshold)
+			transition(current, State.OPEN);
+	}
+
+	// 시험 호출 자격을 받았지만 호출하지 못한 경우 (다음 요청이 다시 시험)
+	public void onRejected(long generation) {
+		Phase current = phase.get();
+		if (current.generation() == generation && current.state() == State.HALF_OPEN)
+			phase.compareAndSet(current, new Phase(State.OPEN, generation + 1, current.openedAt()));
+	}
+
+	// 지금 호출하면 차단되는지 (호출 전 대체값 사용 여부 판단용)
+	public boolean isOpen() {
+		Phase current = phase.get();
+		return current.state() == State.HALF_OPEN
+				|| (current.state() == State.OPEN && System.nanoTime() - current.openedAt() < openNanos);
+	}
+
+	public State getState() {
+		return phase.get().state();
+	}
+
+	private void transition(Phase from, State to) {
+		long openedAt = to == State.OPEN ? System.nanoTime() : from.openedAt();
+		if (phase.compareAndSet(from, new Phase(to, from.generation() + 1, openedAt)))
+			failures.set(0);
+	}
+}
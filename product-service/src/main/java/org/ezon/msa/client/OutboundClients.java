@@ -0,0 +1,94 @@
+package org.ezon.msa.client;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.ezon.msa.common.ApiEndpointConstants;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+
+// 외부 서비스 호출 설정
+// - HttpClient 하나를 공유해 호스트별 keep-alive 연결을 재사용
+// - 서비스(user/delivery/qna/default)마다 응답 제한 시간, 동시 호출 수, 서킷 브레이커를 따로 둠
+// - 설정: product.outbound.<서비스>.readTimeoutMs / maxConcurrent / failureThreshold / openMs
+@Component
+public class OutboundClients implements ClientHttpRequestFactory {
+
+	public static final String USER = "user";
+	public static final String DELIVERY = "delivery";
+	public static final String QNA = "qna";
+	public static final String DEFAULT = "default";
+
+	private final List<OutboundDependency> dependencies;
+	private final OutboundDependency fallback;
+
+	public OutboundClients(Environment env,
+			@Value("${product.outbound.connectTimeoutMs:1000}") long connectTimeoutMs,
+			@Value("${product.outbound.bulkheadWaitMs:50}") long bulkheadWaitMs) {
+		HttpClient httpClient = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_1_1)
+				.connectTimeout(Duration.ofMillis(connectTimeoutMs))
+				.build();
+		this.dependencies = List.of(
+				dependency(env, httpClient, bulkheadWaitMs, USER, List.of(
+						ApiEndpointConstants.USER_DIRECT_URL,
+						ApiEndpointConstants.PROFILE_SERVICE_URL,
+						ApiEndpointConstants.AUTH_SERVICE_URL)),
+				dependency(env, httpClient, bulkheadWaitMs, DELIVERY, List.of(ApiEndpointConstants.DELIVERY_SERVICE_URL)),
+				dependency(env, httpClient, bulkheadWaitMs, QNA, List.of(ApiEndpointConstants.QNA_SERVICE_URL)));
+		this.fallback = dependency(env, httpClient, bulkheadWaitMs, DEFAULT, List.of());
+	}
+
+	private static OutboundDependency dependency(Environment env, HttpClient httpClient, long bulkheadWaitMs,
+			String name, List<String> urlPrefixes) {
+		String key = "product.outbound." + name + ".";
+		long readTimeoutMs = env.getProperty(key + "readTimeoutMs", Long.class, 3000L);
+		int maxConcurrent = env.getProperty(key + "maxConcurrent", Integer.class, 50);
+		int failureThreshold = env.getProperty(key + "failureThreshold", Integer.class, 5);
+		long openMs = env.getProperty(key + "openMs", Long.class, 10000L);
+		return new OutboundDependency(name, urlPrefixes, new JdkClientHttpRequestFactory(httpClient),
+				Duration.ofMillis(readTimeoutMs), new Bulkhead(maxConcurrent, bulkheadWaitMs),
+				new CircuitBreaker(failureThreshold, openMs));
+	}
+
+	// URL 에 해당하는 서비스 (해당 없으면 default)
+	public OutboundDependency resolve(URI uri) {
+		String url = uri.toString();
+		for (OutboundDependency dependency : dependencies) {
+			if (dependency.matches(url))
+				return dependency;
+		}
+		return fallback;
+	}
+
+	public OutboundDependency get(String name) {
+		for (OutboundDependency dependency : dependencies) {
+			if (dependency.getName().equals(name))
+				return dependency;
+		}
+		return fallback;
+	}
+
+	// 서킷이 열려 있으면 호출하지 않고 캐시/빈 값으로 대체
+	public boolean isAvailable(String name) {
+		return !get(name).getCircuitBreaker().isOpen();
+	}
+
+	public List<OutboundDependency> getAll() {
+		return Stream.concat(dependencies.stream(), Stream.of(fallback)).toList();
+	}
+
+	@Override
+	public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+		return resolve(uri).getRequestFactory().createRequest(uri, httpMethod);
+	}
+}
@@ -0,0 +1,57 @@
+package org.ezon.msa.client;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.ezon.msa.metrics.LatencyHistogram;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+// 외부 서비스 하나에 대한 호출 정책 (URL 접두어, 응답 제한 시간, 동시 호출 수, 서킷 브레이커)
+public final class OutboundDependency {
+
+	private final String name;
+	private final List<String> urlPrefixes;
+	private final JdkClientHttpRequestFactory requestFactory;
+	private final Bulkhead bulkhead;
+	private final CircuitBreaker circuitBreaker;
+	// 실제로 나간 호출의 응답 시간 (차단/대기 초과로 나가지 않은 호출 제외)
+	private final LatencyHistogram latency = new LatencyHistogram();
+
+	OutboundDependency(String name, List<String> urlPrefixes, JdkClientHttpRequestFactory requestFactory,
+			Duration readTimeout, Bulkhead bulkhead, CircuitBreaker circuitBreaker) {
+		this.name = name;
+		this.urlPrefixes = urlPrefixes;
+		this.requestFactory = requestFactory;
+		this.requestFactory.setReadTimeout(readTimeout);
+		this.bulkhead = bulkhead;
+		this.circuitBreaker = circuitBreaker;
+	}
+
+	boolean matches(String url) {
+		for (String prefix : urlPrefixes) {
+			if (url.startsWith(prefix))
+				return true;
+		}
+		return false;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	JdkClientHttpRequestFactory getRequestFactory() {
+		return requestFactory;
+	}
+
+	public Bulkhead getBulkhead() {
+		return bulkhead;
+	}
+
+	public CircuitBreaker getCircuitBreaker() {
+		return circuitBreaker;
+	}
+
+	public LatencyHistogram getLatency() {
+		return latency;
+	}
+}
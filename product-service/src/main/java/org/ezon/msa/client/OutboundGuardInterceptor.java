@@ -0,0 +1,158 @@
+package org.ezon.msa.client;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.ezon.msa.metrics.RequestTrace;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+// 외부 호출마다 동시 호출 수 제한 + 서킷 브레이커 적용
+// 차단된 호출은 네트워크에 나가지 않고 바로 IOException (RestTemplate 에서 ResourceAccessException)
+// 연결/응답 시간 초과와 5xx 는 실패, 4xx 는 서비스가 응답한 것이므로 성공으로 기록
+// 호출은 응답 본문까지 읽고 응답을 닫을 때 끝난 것으로 봄 (동시 호출 자리 반환, 결과 기록, 응답 시간)
+// 나간 호출은 서비스별 응답 시간 분포와 현재 요청 기록(RequestTrace)에 남김
+public class OutboundGuardInterceptor implements ClientHttpRequestInterceptor {
+
+	private final OutboundClients outboundClients;
+
+	public OutboundGuardInterceptor(OutboundClients outboundClients) {
+		this.outboundClients = outboundClients;
+	}
+
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+			throws IOException {
+		OutboundDependency dependency = outboundClients.resolve(request.getURI());
+		CircuitBreaker breaker = dependency.getCircuitBreaker();
+		Bulkhead bulkhead = dependency.getBulkhead();
+
+		long generation = breaker.tryAcquire();
+		if (generation < 0)
+			throw new IOException("circuit open: " + dependency.getName());
+		if (!bulkhead.tryAcquire()) {
+			breaker.onRejected(generation);
+			throw new IOException("bulkhead full: " + dependency.getName());
+		}
+		Call call = new Call(dependency, generation);
+		try {
+			ClientHttpResponse response = execution.execute(request, body);
+			call.status = response.getStatusCode().value();
+			return new GuardedResponse(response, call);
+		} catch (IOException | RuntimeException e) {
+			call.finish(true);
+			throw e;
+		}
+	}
+
+	// 나간 호출 하나. finish 는 한 번만 반영
+	private static final class Call {
+
+		private final OutboundDependency dependency;
+		private final long generation;
+		private final RequestTrace trace = RequestTrace.current();
+		private final long started = System.nanoTime();
+		private final AtomicBoolean finished = new AtomicBoolean();
+		private volatile int status;
+		private volatile boolean bodyFailed;
+
+		Call(OutboundDependency dependency, long generation) {
+			this.dependency = dependency;
+			this.generation = generation;
+		}
+
+		void finish(boolean failed) {
+			if (!finished.compareAndSet(false, true))
+				return;
+			dependency.getBulkhead().release();
+			if (failed)
+				dependency.getCircuitBreaker().onFailure(generation);
+			else
+				dependency.getCircuitBreaker().onSuccess(generation);
+			long nanos = System.nanoTime() - started;
+			dependency.getLatency().record(nanos);
+			if (trace != null)
+				trace.onOutbound(dependency.getName(), nanos, status);
+		}
+	}
+
+	// 본문 읽기 중 오류(응답 시간 초과 등)는 실패로, 닫을 때 호출 종료
+	private static final class GuardedResponse implements ClientHttpResponse {
+
+		private final ClientHttpResponse delegate;
+		private final Call call;
+		private InputStream body;
+
+		GuardedResponse(ClientHttpResponse delegate, Call call) {
+			this.delegate = delegate;
+			this.call = call;
+		}
+
+		@Override
+		public HttpStatusCode getStatusCode() throws IOException {
+			return delegate.getStatusCode();
+		}
+
+		@Override
+		public String getStatusText() throws IOException {
+			return delegate.getStatusText();
+		}
+
+		@Override
+		public HttpHeaders getHeaders() {
+			return delegate.getHeaders();
+		}
+
+		@Override
+		public InputStream getBody() throws IOException {
+			if (body == null)
+				body = new FailureTrackingStream(delegate.getBody(), call);
+			return body;
+		}
+
+		@Override
+		public void close() {
+			try {
+				delegate.close();
+			} finally {
+				call.finish(call.bodyFailed || call.status >= 500);
+			}
+		}
+	}
+
+	private static final class FailureTrackingStream extends FilterInputStream {
+
+		private final Call call;
+
+		FailureTrackingStream(InputStream in, Call call) {
+			super(in);
+			this.call = call;
+		}
+
+		@Override
+		public int read() throws IOException {
+			try {
+				return super.read();
+			} catch (IOException e) {
+				call.bodyFailed = true;
+				throw e;
+			}
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			try {
+				return super.read(b, off, len);
+			} catch (IOException e) {
+				call.bodyFailed = true;
+				throw e;
+			}
+		}
+	}
+}
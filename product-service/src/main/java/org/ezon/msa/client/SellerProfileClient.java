@@ -0,0 +1,199 @@
+package org.ezon.msa.client;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.ezon.msa.common.ApiEndpointConstants;
+import org.ezon.msa.config.EnrichmentExecutor;
+import org.ezon.msa.dto.SellerProfile;
+import org.ezon.msa.dto.UserDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+// 판매자(사용자 서비스) 프로필 조회 클라이언트
+// - 목록 단위로 userId를 모아 한 번에 조회 (bulk)
+// - 같은 판매자에 대한 동시 조회는 하나의 요청으로 합침
+// - 크기 제한 + TTL 캐시
+@Component
+public class SellerProfileClient {
+
+	private final RestTemplate restTemplate;
+	private final OutboundClients outboundClients;
+	private final AsyncLoadingCache<Long, SellerProfile> cache;
+	private final long timeoutMs;
+
+	// 사용자 서비스에 bulk API가 없으면 단건 조회로 전환
+	private volatile boolean bulkSupported = true;
+
+	public SellerProfileClient(RestTemplate restTemplate, OutboundClients outboundClients,
+			EnrichmentExecutor enrichmentExecutor,
+			@Value("${product.seller.cacheSize:10000}") long cacheSize,
+			@Value("${product.seller.ttlSeconds:300}") long ttlSeconds,
+			@Value("${product.seller.blankTtlSeconds:10}") long blankTtlSeconds,
+			@Value("${product.seller.timeoutMs:3000}") long timeoutMs) {
+		this.restTemplate = restTemplate;
+		this.outboundClients = outboundClients;
+		this.timeoutMs = timeoutMs;
+		Duration ttl = Duration.ofSeconds(ttlSeconds);
+		Duration blankTtl = Duration.ofSeconds(blankTtlSeconds);
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(cacheSize)
+				.executor(enrichmentExecutor.get())
+				// 조회 실패(빈 프로필)는 짧게만 보관
+				.expireAfter(Expiry.creating((Long userId, SellerProfile p) -> p.isBlank() ? blankTtl : ttl))
+				.buildAsync(new AsyncCacheLoader<Long, SellerProfile>() {
+					@Override
+					public CompletableFuture<SellerProfile> asyncLoad(Long userId, Executor executor) {
+						return fetchOne(userId, executor);
+					}
+
+					@Override
+					public CompletableFuture<Map<Long, SellerProfile>> asyncLoadAll(Set<? extends Long> userIds,
+							Executor executor) {
+						return fetchAll(userIds, executor);
+					}
+				});
+	}
+
+	// 비동기 조회 (목록 보강 단계에서 다른 조회와 동시에 진행)
+	public CompletableFuture<Map<Long, SellerProfile>> getProfilesAsync(Collection<Long> userIds) {
+		Set<Long> ids = userIds.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+		if (ids.isEmpty()) {
+			return CompletableFuture.completedFuture(Map.of());
+		}
+		// 사용자 서비스 서킷이 열려 있으면 캐시에 있는 프로필만 사용 (나머지는 빈 값)
+		if (!outboundClients.isAvailable(OutboundClients.USER)) {
+			return CompletableFuture.completedFuture(cache.synchronous().getAllPresent(ids));
+		}
+		return cache.getAll(ids);
+	}
+
+	// 여러 판매자 프로필 조회 (캐시에 없는 id만 모아서 한 번에 조회)
+	public Map<Long, SellerProfile> getProfiles(Collection<Long> userIds) {
+		try {
+			return getProfilesAsync(userIds).get(timeoutMs, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException | TimeoutException e) {
+		}
+		return Map.of();
+	}
+
+	public SellerProfile getProfile(Long userId) {
+		if (userId == null) {
+			return SellerProfile.blank(null);
+		}
+		return getProfiles(List.of(userId)).getOrDefault(userId, SellerProfile.blank(userId));
+	}
+
+	public void evict(Long userId) {
+		cache.synchronous().invalidate(userId);
+	}
+
+	// bulk 조회, 실패하면 판매자별 조회를 동시에 진행 (스레드를 막고 기다리지 않도록 future 로 조합)
+	private CompletableFuture<Map<Long, SellerProfile>> fetchAll(Set<? extends Long> userIds, Executor executor) {
+		if (!bulkSupported) {
+			return fetchEach(userIds, executor);
+		}
+		return CompletableFuture.supplyAsync(() -> fetchBulk(userIds), executor)
+				.handle((result, e) -> {
+					if (e == null)
+						return CompletableFuture.completedFuture(result);
+					Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+					if (cause instanceof HttpClientErrorException.NotFound
+							|| cause instanceof HttpClientErrorException.MethodNotAllowed)
+						bulkSupported = false;
+					return fetchEach(userIds, executor);
+				})
+				.thenCompose(Function.identity());
+	}
+
+	private CompletableFuture<Map<Long, SellerProfile>> fetchEach(Set<? extends Long> userIds, Executor executor) {
+		Map<Long, CompletableFuture<SellerProfile>> futures = new HashMap<>();
+		for (Long userId : userIds) {
+			futures.put(userId, fetchOne(userId, executor));
+		}
+		return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0])).thenApply(v -> {
+			Map<Long, SellerProfile> result = new HashMap<>();
+			futures.forEach((userId, future) -> result.put(userId, future.join()));
+			return result;
+		});
+	}
+
+	// POST {USER_BULK_URL} {"userIds":[...]} -> [{userId, name, companyName}, ...]
+	private Map<Long, SellerProfile> fetchBulk(Set<? extends Long> userIds) {
+		List<Map<String, Object>> body = restTemplate.exchange(
+				ApiEndpointConstants.USER_BULK_URL,
+				HttpMethod.POST,
+				new HttpEntity<>(Map.of("userIds", userIds)),
+				new ParameterizedTypeReference<List<Map<String, Object>>>() {}
+		).getBody();
+
+		Map<Long, SellerProfile> result = new HashMap<>();
+		if (body != null) {
+			for (Map<String, Object> user : body) {
+				if (user.get("userId") == null)
+					continue;
+				Long userId = Long.parseLong(user.get("userId").toString());
+				result.put(userId, new SellerProfile(userId,
+						user.get("name") != null ? user.get("name").toString() : null,
+						user.get("companyName") != null ? user.get("companyName").toString() : ""));
+			}
+		}
+		// 응답에 없는 판매자도 빈 프로필로 캐시해 반복 조회를 막음
+		for (Long userId : userIds) {
+			result.putIfAbsent(userId, SellerProfile.blank(userId));
+		}
+		return result;
+	}
+
+	// 이름/회사명 두 요청을 동시에
+	private CompletableFuture<SellerProfile> fetchOne(Long userId, Executor executor) {
+		CompletableFuture<String> name = CompletableFuture.supplyAsync(() -> fetchName(userId), executor);
+		CompletableFuture<String> companyName = CompletableFuture.supplyAsync(() -> fetchCompanyName(userId), executor);
+		return name.thenCombine(companyName, (n, c) -> new SellerProfile(userId, n, c));
+	}
+
+	private String fetchName(Long userId) {
+		try {
+			UserDto user = restTemplate.getForObject(ApiEndpointConstants.USER_DIRECT_URL + "/" + userId, UserDto.class);
+			return user != null ? user.getName() : null;
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
+	private String fetchCompanyName(Long userId) {
+		try {
+			String url = ApiEndpointConstants.USER_SERVICE_URL + "/" + userId;
+			Map<String, Object> userInfo = restTemplate.getForObject(url, Map.class);
+			if (userInfo != null && userInfo.get("companyName") != null)
+				return userInfo.get("companyName").toString();
+		} catch (Exception e) {
+		}
+		return "";
+	}
+}
@@ -8,6 +8,9 @@ public class ApiEndpointConstants {
     public static final String SELLER_SERVICE_URL         = GATEWAY_BASE_URL + "/api/profile/sellers";
     public static final String AUTH_SERVICE_URL           = GATEWAY_BASE_URL + "/api/auth";
     public static final String PROFILE_SERVICE_URL        = GATEWAY_BASE_URL + "/api/profile";
+    public static final String USER_BULK_URL              = USER_SERVICE_URL + "/bulk";
+    // 사용자 서비스 직접 호출 (이름 조회)
+    public static final String USER_DIRECT_URL            = "http://localhost:10000/api/users";
 
     // 상품 서비스
     public static final String PRODUCT_SERVICE_URL        = GATEWAY_BASE_URL + "/api/products";
@@ -0,0 +1,31 @@
+package org.ezon.msa.common;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 키셋 페이징 커서 ↔ 불투명 토큰 변환 (해석할 수 없는 토큰은 InvalidCursorException)
+public class CursorCodec {
+
+	private static final String SEPARATOR = "|";
+
+	public static String encode(Object... parts) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < parts.length; i++) {
+			if (i > 0)
+				sb.append(SEPARATOR);
+			sb.append(parts[i]);
+		}
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static String[] decode(String token, int expectedParts) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			String[] parts = raw.split("\\|", -1);
+			if (parts.length == expectedParts)
+				return parts;
+		} catch (IllegalArgumentException e) {
+		}
+		throw new InvalidCursorException("잘못된 커서입니다.");
+	}
+}
@@ -0,0 +1,9 @@
+package org.ezon.msa.common;
+
+// 변조되었거나 정렬 기준이 다른 페이징 커서 (클라이언트 오류 -> 400)
+public class InvalidCursorException extends IllegalArgumentException {
+
+	public InvalidCursorException(String message) {
+		super(message);
+	}
+}
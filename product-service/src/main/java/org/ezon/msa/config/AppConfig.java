@@ -1,13 +1,20 @@
 package org.ezon.msa.config;
 
+import org.ezon.msa.client.OutboundClients;
+import org.ezon.msa.client.OutboundGuardInterceptor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
+@EnableScheduling
 public class AppConfig {
+    // 외부 서비스 호출: 연결 재사용 + 서비스별 제한 시간/동시 호출 수/서킷 브레이커
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(OutboundClients outboundClients) {
+        RestTemplate restTemplate = new RestTemplate(outboundClients);
+        restTemplate.getInterceptors().add(new OutboundGuardInterceptor(outboundClients));
+        return restTemplate;
     }
 }
\ No newline at end of file
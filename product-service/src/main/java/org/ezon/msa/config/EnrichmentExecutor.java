@@ -0,0 +1,100 @@
+package org.ezon.msa.config;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.ezon.msa.metrics.RequestTrace;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+// 목록 보강(판매자 조회 등) 병렬 실행용 스레드
+// JDK 21 이상이고 virtualThreads=true 면 가상 스레드, 아니면 크기 제한 스레드 풀
+// (Executor 빈으로 등록하면 스프링 기본 TaskExecutor 가 빠지므로 별도 컴포넌트로 보관)
+// 맡긴 작업은 호출한 요청의 기록(RequestTrace)을 이어받아 SQL/외부 호출이 그 요청 지표에 잡힘
+@Component
+public class EnrichmentExecutor {
+
+	private final ExecutorService executor;
+
+	public EnrichmentExecutor(@Value("${product.enrichment.threads:32}") int threads,
+			@Value("${product.enrichment.queueSize:1024}") int queueSize,
+			@Value("${product.enrichment.virtualThreads:true}") boolean virtualThreads) {
+		ExecutorService virtual = virtualThreads ? newVirtualThreadExecutor() : null;
+		if (virtual != null) {
+			this.executor = new TracePropagatingExecutor(virtual);
+		} else {
+			AtomicInteger seq = new AtomicInteger();
+			// 큐가 차면 호출 스레드에서 실행 (요청 스레드가 직접 처리하며 속도 조절)
+			this.executor = new TracePropagatingExecutor(new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+					new ArrayBlockingQueue<>(queueSize), r -> {
+						Thread t = new Thread(r, "enrich-" + seq.incrementAndGet());
+						t.setDaemon(true);
+						return t;
+					}, new ThreadPoolExecutor.CallerRunsPolicy()));
+		}
+	}
+
+	public ExecutorService get() {
+		return executor;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	private static final class TracePropagatingExecutor extends AbstractExecutorService {
+
+		private final ExecutorService delegate;
+
+		TracePropagatingExecutor(ExecutorService delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void execute(Runnable command) {
+			delegate.execute(RequestTrace.wrap(command));
+		}
+
+		@Override
+		public void shutdown() {
+			delegate.shutdown();
+		}
+
+		@Override
+		public List<Runnable> shutdownNow() {
+			return delegate.shutdownNow();
+		}
+
+		@Override
+		public boolean isShutdown() {
+			return delegate.isShutdown();
+		}
+
+		@Override
+		public boolean isTerminated() {
+			return delegate.isTerminated();
+		}
+
+		@Override
+		public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+			return delegate.awaitTermination(timeout, unit);
+		}
+	}
+
+	private static ExecutorService newVirtualThreadExecutor() {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException e) {
+			return null;
+		}
+	}
+}
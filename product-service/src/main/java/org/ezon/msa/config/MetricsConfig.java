@@ -0,0 +1,42 @@
+package org.ezon.msa.config;
+
+import javax.sql.DataSource;
+
+import org.ezon.msa.metrics.RequestMetrics;
+import org.ezon.msa.metrics.RequestMetricsInterceptor;
+import org.ezon.msa.metrics.SqlCountingDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// 요청별 지표 수집 (product.metrics.enabled=false 면 전부 끔)
+// - 컨트롤러 요청마다 RequestTrace 시작/기록
+// - DataSource 를 감싸 SQL 실행 수/조회 행 수 집계
+@Configuration
+@ConditionalOnProperty(name = "product.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class MetricsConfig implements WebMvcConfigurer {
+
+	private final RequestMetrics requestMetrics;
+
+	public MetricsConfig(RequestMetrics requestMetrics) {
+		this.requestMetrics = requestMetrics;
+	}
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(new RequestMetricsInterceptor(requestMetrics));
+	}
+
+	@Bean
+	public static BeanPostProcessor sqlCountingDataSourcePostProcessor() {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				return bean instanceof DataSource dataSource ? SqlCountingDataSource.wrap(dataSource) : bean;
+			}
+		};
+	}
+}
@@ -0,0 +1,18 @@
+package org.ezon.msa.controller;
+
+import java.util.Map;
+
+import org.ezon.msa.common.InvalidCursorException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+// 잘못된 cursor 파라미터는 500 이 아니라 400 으로 응답
+@RestControllerAdvice
+public class InvalidCursorHandler {
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidCursor(InvalidCursorException e) {
+        return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+    }
+}
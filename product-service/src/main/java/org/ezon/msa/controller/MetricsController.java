@@ -0,0 +1,28 @@
+package org.ezon.msa.controller;
+
+import org.ezon.msa.metrics.RequestMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// [ADMIN] 엔드포인트별 요청 지표 (지연 분포, SQL 수/조회 행 수, 외부 호출, N+1 의심)
+@RestController
+@RequestMapping("/api/products/admin/metrics")
+public class MetricsController {
+
+    @Autowired
+    private RequestMetrics requestMetrics;
+
+    @GetMapping
+    public RequestMetrics.Snapshot getMetrics() {
+        return requestMetrics.snapshot();
+    }
+
+    // 엔드포인트별 집계 초기화 (부하 테스트 구간 나눌 때)
+    @DeleteMapping
+    public void resetMetrics() {
+        requestMetrics.reset();
+    }
+}
@@ -2,9 +2,19 @@ package org.ezon.msa.controller;
 
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 
+import org.ezon.msa.dto.CartProductDetailView;
+import org.ezon.msa.dto.CartProductView;
+import org.ezon.msa.dto.ProductScrollView;
+import org.ezon.msa.dto.ProductSearchView;
+import org.ezon.msa.dto.ProductView;
+import org.ezon.msa.flashsale.FlashSaleService;
+import org.ezon.msa.service.EngagementCounters;
+import org.ezon.msa.service.ProductExportService;
 import org.ezon.msa.service.ProductService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,6 +25,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 
 @RestController
 @RequestMapping("/api/products")
@@ -23,9 +34,18 @@ public class ProductController {
     @Autowired
     private ProductService productService;
 
+    @Autowired
+    private ProductExportService productExportService;
+
+    @Autowired
+    private FlashSaleService flashSaleService;
+
+    @Autowired
+    private EngagementCounters engagementCounters;
+
     // 메인화면 아이템 목록
     @GetMapping
-    public List<Map<String, Object>> getProductsForUser(
+    public List<ProductView> getProductsForUser(
         @RequestParam(required = false) String keyword,
         @RequestParam(required = false) Long categoryId,
         @RequestParam(required = false) Integer minPrice,
@@ -36,15 +56,49 @@ public class ProductController {
         return productService.searchProductsAll(keyword, categoryId, minPrice, maxPrice, minRating, sort);
     }
     
+    // 메인화면 아이템 목록 + 패싯 집계 (?facets=true)
+    @GetMapping(params = "facets=true")
+    public ProductSearchView getProductsWithFacetsForUser(
+        @RequestParam(required = false) String keyword,
+        @RequestParam(required = false) Long categoryId,
+        @RequestParam(required = false) Integer minPrice,
+        @RequestParam(required = false) Integer maxPrice,
+        @RequestParam(required = false) Double minRating,
+        @RequestParam(required = false) String sort
+    ) {
+        return productService.searchProductsWithFacets(keyword, categoryId, minPrice, maxPrice, minRating, sort);
+    }
+
+    // 메인화면 아이템 목록 (커서 페이징)
+    @GetMapping("/scroll")
+    public ProductScrollView scrollProductsForUser(
+        @RequestParam(required = false) String keyword,
+        @RequestParam(required = false) Long categoryId,
+        @RequestParam(required = false) Integer minPrice,
+        @RequestParam(required = false) Integer maxPrice,
+        @RequestParam(required = false) Double minRating,
+        @RequestParam(required = false) String sort,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size
+    ) {
+        return productService.scrollProducts(keyword, categoryId, minPrice, maxPrice, minRating, sort, cursor, size);
+    }
+    
     //카테고리 depth로 나누기
     @GetMapping("/categories")
     public List<Map<String, Object>> getCategoryHierarchy() {
         return productService.getCategoryHierarchy();
     }
 
+    // [admin] 카테고리 변경 반영
+    @PostMapping("/categories/refresh")
+    public void refreshCategories() {
+        productService.refreshCategories();
+    }
+
     // [seller] 내 상품 목록
     @GetMapping("/seller")
-    public List<Map<String, Object>> getMyProducts(
+    public List<ProductView> getMyProducts(
         @RequestParam Long userId,
         @RequestParam String role,
         @RequestParam(required = false) Long categoryId,
@@ -55,9 +109,11 @@ public class ProductController {
 
     // [user] 상품 상세 조회
     @GetMapping("/{productId}")
-    public Map<String, Object> getProductDetailForUser(@PathVariable Long productId) {
+    public ProductView getProductDetailForUser(@PathVariable Long productId) {
         // userId, role 등 인증에서 추출하여 넘겨야함
-        return productService.getProductByIdWithAuth(productId);
+        ProductView view = productService.getProductByIdWithAuth(productId);
+        engagementCounters.recordView(productId);
+        return view;
     }
 
     // [seller] 상품 등록
@@ -68,7 +124,7 @@ public class ProductController {
     
     // [seller] 단일 상품 상세 (판매자 권한)
     @GetMapping("/{productId}/seller")
-    public Map<String, Object> getProductByIdForSeller(@PathVariable Long productId, @RequestParam Long userId, @RequestParam String role) {
+    public ProductView getProductByIdForSeller(@PathVariable Long productId, @RequestParam Long userId, @RequestParam String role) {
         // 판매자 본인만 볼 수 있도록 체크
         return productService.getProductByIdForSeller(productId, userId, role);
     }
@@ -90,7 +146,7 @@ public class ProductController {
 
     // [seller] 카테고리별 상품 목록
     @GetMapping("/categories/{categoryId}")
-    public List<Map<String, Object>> getProductsByCategory(@PathVariable Long categoryId) {
+    public List<ProductView> getProductsByCategory(@PathVariable Long categoryId) {
         // userId, role 인증에서 추출 필요. 여기선 미반영.
         return productService.findByCategory(categoryId);
     }
@@ -114,14 +170,28 @@ public class ProductController {
     
     // [ADMIN] 전체 상품 목록
     @GetMapping("/admin/all")
-    public List<Map<String, Object>> getAllProductsForAdmin() {
+    public List<ProductView> getAllProductsForAdmin() {
         // 관리자이므로 userId는 null, role만 "ADMIN"으로 전달
         return productService.getProductList(null, "ADMIN", null, null);
     }
 
+    // [ADMIN] 전체 상품 내보내기 (?format=ndjson, 한 줄에 상품 하나씩 바로 전송)
+    @GetMapping(value = "/admin/all", params = "format=ndjson")
+    public ResponseEntity<ResponseBodyEmitter> exportAllProductsForAdmin() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(productExportService.exportAllAsync());
+    }
+
+    // [ADMIN] 리뷰 집계(개수/평균/별점 분포) 재계산
+    @PostMapping("/admin/review-stats/rebuild")
+    public int rebuildReviewStats() {
+        return productService.rebuildReviewStats();
+    }
+
     // [ADMIN] 승인대기(PENDING) 상품만
     @GetMapping("/admin/pending")
-    public List<Map<String, Object>> getPendingProductsForAdmin() {
+    public List<ProductView> getPendingProductsForAdmin() {
         return productService.getPendingProductsForAdmin();
     }
     
@@ -149,7 +219,37 @@ public class ProductController {
         productService.setPending(productId, adminId, role);
     }
 
-    
+    // [admin] 플래시 세일 시작 (재고를 메모리 카운터로 관리)
+    @PostMapping("/{productId}/flash-sale")
+    public void enableFlashSale(@PathVariable Long productId,
+                                @RequestParam Long adminId,
+                                @RequestParam String role) {
+        flashSaleService.enable(productId);
+    }
+
+    // [admin] 플래시 세일 종료 (남은 변경분 반영 후 DB 재고로 복귀)
+    @DeleteMapping("/{productId}/flash-sale")
+    public void disableFlashSale(@PathVariable Long productId,
+                                 @RequestParam Long adminId,
+                                 @RequestParam String role) {
+        flashSaleService.disable(productId);
+    }
+
+    // 플래시 세일 남은 수량
+    @GetMapping("/{productId}/flash-sale")
+    public int getFlashSaleStock(@PathVariable Long productId) {
+        Integer available = flashSaleService.available(productId);
+        if (available == null)
+            throw new NoSuchElementException("플래시 세일 중인 상품이 아닙니다.");
+        return available;
+    }
+
+    // 조회/판매 이벤트 수집 (예약을 거치지 않는 판매, 외부 조회 등). DB 에는 주기적으로 일괄 반영
+    @PostMapping("/events")
+    public int recordEngagement(@RequestBody Map<String, Object> map) {
+        return engagementCounters.recordAll(map);
+    }
+
     // 제품별 문의(QnA) 작성
     @PostMapping("/{productId}/oneToOnes")
     public void writeQna(@PathVariable Long productId, @RequestBody Map<String, Object> map) {
@@ -159,14 +259,14 @@ public class ProductController {
 
     // 단일 상품 조회 (프론트·주문·장바구니 등에서 개별 상품정보 필요할 때)
     @GetMapping("/cart/{productId}")
-    public Map<String, Object> getProductById(@PathVariable Long productId) {
+    public CartProductDetailView getProductById(@PathVariable Long productId) {
         // 예시: 실제로는 DTO 또는 Map으로 반환
         return productService.getProductById(productId);
     }
     
     // 여러 상품ID로 한 번에 상품정보 조회 (장바구니, 주문 등에서 사용)
     @GetMapping("/cart")
-    public List<Map<String, Object>> getProductsByIds(@RequestParam("productIds") List<Long> productIds) {
+    public List<CartProductView> getProductsByIds(@RequestParam("productIds") List<Long> productIds) {
         return productService.getProductsByIds(productIds);
     }
     
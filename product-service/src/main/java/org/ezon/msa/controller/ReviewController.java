@@ -4,6 +4,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.ezon.msa.dto.ReviewScrollView;
+import org.ezon.msa.dto.ReviewSummary;
+import org.ezon.msa.dto.UserReviewView;
 import org.ezon.msa.service.ReviewService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -13,6 +16,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -27,21 +31,19 @@ public class ReviewController {
 		this.reviewService = reviewService;
 	}
 
-	// 제품별 리뷰 목록 조회
-		@GetMapping("/product/{productId}/reviews")
-		public ResponseEntity<Map<String, Object>> getReviewsByProductId(@PathVariable Long productId) {
-			List<Map<String, Object>> reviews = reviewService.findReviewsByProductIdAll(productId);
-
-			Map<String, Object> response = new HashMap<>();
-			response.put("reviews", reviews);
-
-			return ResponseEntity.ok(response);
-		}
+	// 제품별 리뷰 목록 조회 (sort: newest(기본)/rating_desc/rating_asc, 다음 페이지는 nextCursor 로)
+	@GetMapping("/product/{productId}/reviews")
+	public ResponseEntity<ReviewScrollView> getReviewsByProductId(@PathVariable Long productId,
+			@RequestParam(required = false) String sort,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(required = false) Integer size) {
+		return ResponseEntity.ok(reviewService.scrollReviewsByProductId(productId, sort, cursor, size));
+	}
 
 	// 사용자별 리뷰 목록 조회
 	@GetMapping("/{userId}/reviews")
 	public ResponseEntity<Map<String, Object>> getReviewsByUserId(@PathVariable Long userId) {
-		List<Map<String, Object>> reviews = reviewService.getUserReviewListWithProductName(userId);
+		List<UserReviewView> reviews = reviewService.getUserReviewListWithProductName(userId);
 
 		Map<String, Object> response = new HashMap<>();
 		response.put("reviews", reviews);
@@ -67,6 +69,12 @@ public class ReviewController {
 		reviewService.deleteReview(reviewId);
 	}
 	
+	// 여러 상품 리뷰 요약 (개수/평균, 상품 목록/주문 서비스 등에서 한 번에 조회)
+	@GetMapping("/reviews/summary")
+	public ResponseEntity<Map<Long, ReviewSummary>> getReviewSummaries(@RequestParam("productIds") List<Long> productIds) {
+		return ResponseEntity.ok(reviewService.getReviewSummaryForProductIdList(productIds));
+	}
+
 	// 리뷰 등록된 상세주문id 
 	@GetMapping("/reviews/orderItemIds/{userId}")
 	public ResponseEntity<List<Long>> getReviewedOrderItemIds(@PathVariable Long userId) {
@@ -1,7 +1,7 @@
 package org.ezon.msa.controller;
 
 import java.util.List;
-import java.util.Map;
+import org.ezon.msa.dto.ProductView;
 import org.ezon.msa.service.ProductService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
@@ -13,18 +13,24 @@ public class SearchController {
     @Autowired
     private ProductService productService;
 
-    // 통합검색 (상품명)
+    // 통합검색 (상품명, includeCategory=true 면 카테고리명 포함)
     @GetMapping("/products")
-    public List<Map<String, Object>> searchProducts(@RequestParam String keyword) {
-        return productService.searchProducts(keyword);
+    public List<ProductView> searchProducts(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "false") boolean includeCategory,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+        return productService.searchProducts(keyword, includeCategory, page, size);
     }
 
     // 내 상품 검색
     @GetMapping("/products/me")
-    public List<Map<String, Object>> searchMyProducts(
+    public List<ProductView> searchMyProducts(
             @RequestParam Long userId,
-            @RequestParam String keyword) {
-        return productService.findBySellerAndKeyword(userId, keyword);
+            @RequestParam String keyword,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+        return productService.findBySellerAndKeyword(userId, keyword, page, size);
     }
 
     // 최근 검색어 (예시, 구현은 별도 필요)
@@ -41,7 +47,7 @@ public class SearchController {
 
     // 상품 필터 조회
     @GetMapping("/products/result")
-    public List<Map<String, Object>> filterProducts(
+    public List<ProductView> filterProducts(
             @RequestParam Long categoryId,
             @RequestParam int minPrice,
             @RequestParam int maxPrice,
@@ -0,0 +1,39 @@
+package org.ezon.msa.controller;
+
+import java.util.Map;
+
+import org.ezon.msa.dto.StockReservationView;
+import org.ezon.msa.service.StockReservationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// 주문 서비스용 재고 예약 API
+@RestController
+@RequestMapping("/api/products/stock/reservations")
+public class StockReservationController {
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    // 주문 상품 재고 일괄 예약 {"items":[{"productId":1,"quantity":2}, ...]}
+    @PostMapping
+    public StockReservationView reserve(@RequestBody Map<String, Object> map) {
+        return stockReservationService.reserve(map);
+    }
+
+    // 주문 확정
+    @PostMapping("/{reservationKey}/commit")
+    public StockReservationView commit(@PathVariable String reservationKey) {
+        return stockReservationService.commit(reservationKey);
+    }
+
+    // 주문 취소 (재고 복구)
+    @PostMapping("/{reservationKey}/release")
+    public StockReservationView release(@PathVariable String reservationKey) {
+        return stockReservationService.release(reservationKey);
+    }
+}
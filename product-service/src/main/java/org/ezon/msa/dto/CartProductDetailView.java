@@ -0,0 +1,11 @@
+package org.ezon.msa.dto;
+
+// 장바구니/주문 단건 조회 응답 (productName 은 주문 서비스 호환용으로 name 과 같은 값)
+public record CartProductDetailView(Long productId, String productName, String name, int price, int discountPrice,
+		String image, int shippingFee) {
+
+	public static CartProductDetailView of(CartProductView view) {
+		return new CartProductDetailView(view.productId(), view.name(), view.name(), view.price(),
+				view.discountPrice(), view.image(), view.shippingFee());
+	}
+}
@@ -0,0 +1,6 @@
+package org.ezon.msa.dto;
+
+// 장바구니/주문 화면용 상품 요약 (description 등 큰 컬럼 제외)
+public record CartProductView(Long productId, String name, int price, int discountPrice, String image,
+		int shippingFee) {
+}
@@ -0,0 +1,5 @@
+package org.ezon.msa.dto;
+
+// 반영 대기 중인 상품별 조회수/판매수 증가분
+public record EngagementDelta(long views, long sales) {
+}
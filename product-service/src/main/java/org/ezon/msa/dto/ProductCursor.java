@@ -0,0 +1,28 @@
+package org.ezon.msa.dto;
+
+import org.ezon.msa.common.CursorCodec;
+import org.ezon.msa.common.InvalidCursorException;
+import org.ezon.msa.enums.ProductSort;
+
+// 상품 목록 커서 (정렬 기준, 마지막 행의 정렬 키, productId)
+public record ProductCursor(ProductSort sort, Object key, long productId) {
+
+	public static ProductCursor after(ProductSort sort, ProductListRow last) {
+		return new ProductCursor(sort, sort.keyOf(last), last.productId());
+	}
+
+	public static ProductCursor decode(ProductSort sort, String token) {
+		String[] parts = CursorCodec.decode(token, 3);
+		if (!sort.name().equals(parts[0]))
+			throw new InvalidCursorException("정렬 기준이 커서와 다릅니다.");
+		try {
+			return new ProductCursor(sort, sort.parseKey(parts[1]), Long.parseLong(parts[2]));
+		} catch (RuntimeException e) {
+			throw new InvalidCursorException("잘못된 커서입니다.");
+		}
+	}
+
+	public String encode() {
+		return CursorCodec.encode(sort.name(), key, productId);
+	}
+}
@@ -0,0 +1,20 @@
+package org.ezon.msa.dto;
+
+import java.util.List;
+
+// 상품 목록 패싯 집계 (현재 키워드/필터 조합에 맞는 상품 기준)
+public record ProductFacets(int total, List<CategoryCount> categories, List<PriceRangeCount> priceRanges,
+		List<RatingCount> ratings) {
+
+	// 상품이 있는 카테고리만
+	public record CategoryCount(Long categoryId, String name, int count) {
+	}
+
+	// min 이상 max 미만 (max 가 null 이면 상한 없음)
+	public record PriceRangeCount(int min, Integer max, int count) {
+	}
+
+	// 평균 평점 정수부 (stars 점 이상 stars+1 점 미만, 5 는 5점)
+	public record RatingCount(int stars, int count) {
+	}
+}
@@ -0,0 +1,11 @@
+package org.ezon.msa.dto;
+
+import java.time.LocalDateTime;
+
+import org.ezon.msa.enums.ProductStatus;
+
+// 상품 목록용 조회 결과 (상세 설명 description 제외, 상세 조회에서만 엔티티 전체를 읽음)
+public record ProductListRow(Long productId, Long categoryId, Long userId, Long sellerAddressId, String name,
+		int price, int discountPrice, int stockQuantity, String image, ProductStatus status, String courierName,
+		int shippingFee, int reviewCount, int salesCount, Double averageRating, LocalDateTime addedAt) {
+}
@@ -0,0 +1,7 @@
+package org.ezon.msa.dto;
+
+import java.util.List;
+
+// 커서 페이징 응답 (nextCursor 는 마지막 페이지면 null)
+public record ProductScrollView(List<ProductView> products, String nextCursor, boolean hasNext) {
+}
@@ -0,0 +1,8 @@
+package org.ezon.msa.dto;
+
+import org.ezon.msa.enums.ProductStatus;
+
+// 상품 목록 검색 조건 (null 이면 조건 없음)
+public record ProductSearchCondition(String keyword, Long categoryId, Integer minPrice, Integer maxPrice,
+		Double minRating, ProductStatus status) {
+}
@@ -0,0 +1,22 @@
+package org.ezon.msa.dto;
+
+import java.time.LocalDateTime;
+
+import org.ezon.msa.entity.Product;
+import org.ezon.msa.enums.ProductStatus;
+
+// 메모리 검색 구조(색인, 자동완성 등)에 필요한 상품 컬럼만 담은 조회 결과
+public record ProductSearchRow(Long productId, Long userId, Long categoryId, String name, ProductStatus status,
+		int price, int discountPrice, Double averageRating, int reviewCount, int salesCount, LocalDateTime addedAt) {
+
+	public static ProductSearchRow of(Product p) {
+		return new ProductSearchRow(p.getProductId(), p.getUserId(), p.getCategoryId(), p.getName(), p.getStatus(),
+				p.getPrice(), p.getDiscountPrice(), p.getAverageRating(), p.getReviewCount(), p.getSalesCount(),
+				p.getAddedAt());
+	}
+
+	public ProductSearchRow withSalesCount(int salesCount) {
+		return new ProductSearchRow(productId, userId, categoryId, name, status, price, discountPrice, averageRating,
+				reviewCount, salesCount, addedAt);
+	}
+}
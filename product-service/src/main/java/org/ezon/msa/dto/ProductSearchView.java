@@ -0,0 +1,7 @@
+package org.ezon.msa.dto;
+
+import java.util.List;
+
+// 상품 목록 + 패싯 집계 응답
+public record ProductSearchView(List<ProductView> products, ProductFacets facets) {
+}
@@ -0,0 +1,88 @@
+package org.ezon.msa.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.ezon.msa.entity.Product;
+import org.ezon.msa.enums.ProductStatus;
+
+// 상품 목록/상세 응답 (JSON 키 이름과 순서는 기존 Map 응답과 동일)
+public record ProductView(
+		Long productId,
+		Long categoryId,
+		Long userId,
+		Long sellerAddressId,
+		String name,
+		String userName,
+		String description,
+		int price,
+		int discountPrice,
+		int stockQuantity,
+		String image,
+		ProductStatus status,
+		String courierName,
+		int shippingFee,
+		int reviewCount,
+		int salesCount,
+		Double averageRating,
+		LocalDate addedAt,
+		List<String> categoryPath,
+		String brand,
+		String categoryName,
+		String brandName) {
+
+	public static ProductView of(Product p, SellerProfile seller, List<String> categoryPath) {
+		String companyName = seller.companyName();
+		return new ProductView(
+				p.getProductId(),
+				p.getCategoryId(),
+				p.getUserId(),
+				p.getSellerAddressId(),
+				p.getName(),
+				seller.name(),
+				p.getDescription(),
+				p.getPrice(),
+				p.getDiscountPrice(),
+				p.getStockQuantity(),
+				p.getImage(),
+				p.getStatus(),
+				p.getCourierName(),
+				p.getShippingFee(),
+				p.getReviewCount(),
+				p.getSalesCount(),
+				p.getAverageRating(),
+				p.getAddedAt() != null ? p.getAddedAt().toLocalDate() : null,
+				categoryPath,
+				companyName,
+				!categoryPath.isEmpty() ? categoryPath.get(categoryPath.size() - 1) : "",
+				companyName);
+	}
+
+	// 목록용 (description 은 조회하지 않으므로 null)
+	public static ProductView of(ProductListRow p, SellerProfile seller, List<String> categoryPath) {
+		String companyName = seller.companyName();
+		return new ProductView(
+				p.productId(),
+				p.categoryId(),
+				p.userId(),
+				p.sellerAddressId(),
+				p.name(),
+				seller.name(),
+				null,
+				p.price(),
+				p.discountPrice(),
+				p.stockQuantity(),
+				p.image(),
+				p.status(),
+				p.courierName(),
+				p.shippingFee(),
+				p.reviewCount(),
+				p.salesCount(),
+				p.averageRating(),
+				p.addedAt() != null ? p.addedAt().toLocalDate() : null,
+				categoryPath,
+				companyName,
+				!categoryPath.isEmpty() ? categoryPath.get(categoryPath.size() - 1) : "",
+				companyName);
+	}
+}
@@ -0,0 +1,14 @@
+package org.ezon.msa.dto;
+
+// 상품별 리뷰 요약 (product 테이블에 저장된 집계 기준)
+public record ReviewSummary(Long productId, int reviewCount, double averageRating) {
+
+	// 집계 컬럼 프로젝션용 (평균은 합계/개수로 계산)
+	public ReviewSummary(Long productId, int reviewCount, long ratingSum) {
+		this(productId, reviewCount, reviewCount > 0 ? (double) ratingSum / reviewCount : 0.0);
+	}
+
+	public static ReviewSummary empty(Long productId) {
+		return new ReviewSummary(productId, 0, 0.0);
+	}
+}
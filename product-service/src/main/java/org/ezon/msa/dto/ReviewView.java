@@ -0,0 +1,21 @@
+package org.ezon.msa.dto;
+
+import java.time.format.DateTimeFormatter;
+
+import org.ezon.msa.entity.Review;
+
+// 상품별 리뷰 목록 응답 (작성일은 yyyy.MM.dd)
+public record ReviewView(Long reviewId, Long productId, Long orderItemId, int rating, String content, String image,
+		Long userId, String createdAt) {
+
+	static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy.MM.dd");
+
+	public static ReviewView of(Review r) {
+		return new ReviewView(r.getReviewId(), r.getProductId(), r.getOrderItemId(), r.getRating(), r.getContent(),
+				r.getImage(), r.getUserId(), formatDate(r));
+	}
+
+	static String formatDate(Review r) {
+		return r.getCreatedAt() != null ? r.getCreatedAt().toLocalDate().format(DATE_FORMAT) : "";
+	}
+}
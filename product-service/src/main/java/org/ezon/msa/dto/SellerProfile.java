@@ -0,0 +1,13 @@
+package org.ezon.msa.dto;
+
+// 상품 목록에 표시되는 판매자 정보 (사용자 서비스 조회 결과)
+public record SellerProfile(Long userId, String name, String companyName) {
+
+	public static SellerProfile blank(Long userId) {
+		return new SellerProfile(userId, null, "");
+	}
+
+	public boolean isBlank() {
+		return name == null && (companyName == null || companyName.isEmpty());
+	}
+}
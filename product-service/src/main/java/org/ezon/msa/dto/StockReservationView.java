@@ -0,0 +1,11 @@
+package org.ezon.msa.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.ezon.msa.enums.ReservationStatus;
+
+// 재고 예약 결과 (items: productId → 수량)
+public record StockReservationView(String reservationKey, ReservationStatus status, LocalDateTime expiresAt,
+		Map<Long, Integer> items) {
+}
@@ -0,0 +1,13 @@
+package org.ezon.msa.dto;
+
+import org.ezon.msa.entity.Review;
+
+// 사용자별 리뷰 목록 응답 (상품명/이미지/가격 포함)
+public record UserReviewView(Long reviewId, Long productId, Long orderItemId, int rating, String content,
+		String image, String createdAt, String productName, String productImage, Integer productPrice) {
+
+	public static UserReviewView of(Review r, String productName, String productImage, Integer productPrice) {
+		return new UserReviewView(r.getReviewId(), r.getProductId(), r.getOrderItemId(), r.getRating(),
+				r.getContent(), r.getImage(), ReviewView.formatDate(r), productName, productImage, productPrice);
+	}
+}
@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -12,7 +13,10 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "category")
+@Table(name = "category", indexes = {
+    // 하위 카테고리 포함 조회용 (lft 범위)
+    @Index(name = "idx_category_lft", columnList = "lft")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -29,4 +33,11 @@ public class Category {
 
     @Column(name = "parent_id")
     private Long parentId;
+
+    // 전위 순회 구간 (CategorySnapshotService.refresh 가 다시 계산, 트리 변경 후 최대 product.category.refreshMs 지연)
+    @Column(name = "lft")
+    private Integer lft;
+
+    @Column(name = "rgt")
+    private Integer rgt;
 }
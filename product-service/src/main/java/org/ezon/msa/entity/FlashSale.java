@@ -0,0 +1,33 @@
+package org.ezon.msa.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 플래시 세일 진행 중인 상품 (행이 있으면 재고를 메모리 카운터로 관리)
+// appliedSeq: product 테이블에 반영된 마지막 저널 번호
+@Entity
+@Table(name = "flash_sale")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FlashSale {
+
+    @Id
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "applied_seq", nullable = false)
+    private long appliedSeq;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+}
@@ -4,6 +4,8 @@ import java.time.LocalDateTime;
 
 import org.ezon.msa.enums.ProductStatus;
 
+import org.hibernate.annotations.DynamicUpdate;
+
 import jakarta.persistence.*;
 import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
@@ -11,7 +13,19 @@ import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
 @Entity
-@Table(name = "product")
+@Table(name = "product", indexes = {
+    // 목록 정렬/키셋 페이징용 (status 조건 + 정렬 키 + product_id)
+    @Index(name = "idx_product_status_price", columnList = "status, price, product_id"),
+    @Index(name = "idx_product_status_rating", columnList = "status, average_rating, product_id"),
+    @Index(name = "idx_product_status_added", columnList = "status, added_at, product_id"),
+    // 카테고리(하위 포함)/가격/평점 필터용 (status, category 동등 조건 + 가격 범위)
+    @Index(name = "idx_product_status_category_price", columnList = "status, category_id, price, average_rating"),
+    // 판매자 상품 목록용
+    @Index(name = "idx_product_user_category", columnList = "user_id, category_id")
+})
+// 수정 시 바뀐 컬럼만 UPDATE. 재고/판매수/조회수/리뷰 집계는 다른 경로에서 원자적으로 증감하므로
+// 엔티티 저장으로는 쓰지 않음 (updatable = false, 읽어 둔 값으로 덮어쓰지 않도록)
+@DynamicUpdate
 @Getter
 @Setter
 @NoArgsConstructor
@@ -53,7 +67,7 @@ public class Product {
     private int discountPrice;
 
     @NotNull
-    @Column(name = "stock_quantity", nullable = false)
+    @Column(name = "stock_quantity", nullable = false, updatable = false)
     private int stockQuantity;
 
     @Column(name = "image", columnDefinition = "TEXT", nullable = false)
@@ -68,13 +82,17 @@ public class Product {
     private LocalDateTime addedAt;
 
     @NotNull
-    @Column(name = "review_count", nullable = false)
+    @Column(name = "review_count", nullable = false, updatable = false)
     private int reviewCount;
 
     @NotNull
-    @Column(name = "sales_count", nullable = false)
+    @Column(name = "sales_count", nullable = false, updatable = false)
     private int salesCount;
 
+    // 상세 조회수 (EngagementCounters 에서 주기적으로 일괄 반영)
+    @Column(name = "view_count", nullable = false, updatable = false)
+    private long viewCount;
+
     @NotNull
     @Column(name = "courier_name", nullable = false, length = 100)
     private String courierName;
@@ -90,6 +108,25 @@ public class Product {
     @NotNull
     @DecimalMin(value = "0.0", inclusive = true)
     @DecimalMax(value = "5.0", inclusive = true)
-    @Column(name = "average_rating", nullable = false)
+    @Column(name = "average_rating", nullable = false, updatable = false)
     private Double averageRating;
+
+    // 리뷰 집계 (ReviewService에서 원자적으로 갱신)
+    @Column(name = "rating_sum", nullable = false, updatable = false)
+    private long ratingSum;
+
+    @Column(name = "rating1_count", nullable = false, updatable = false)
+    private int rating1Count;
+
+    @Column(name = "rating2_count", nullable = false, updatable = false)
+    private int rating2Count;
+
+    @Column(name = "rating3_count", nullable = false, updatable = false)
+    private int rating3Count;
+
+    @Column(name = "rating4_count", nullable = false, updatable = false)
+    private int rating4Count;
+
+    @Column(name = "rating5_count", nullable = false, updatable = false)
+    private int rating5Count;
 }
@@ -7,14 +7,25 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "review")
+@Table(name = "review", indexes = {
+    // 상품별 리뷰 키셋 페이징용 (product_id 조건 + 정렬 키 + review_id)
+    @Index(name = "idx_review_product_created", columnList = "product_id, created_at, review_id"),
+    @Index(name = "idx_review_product_rating", columnList = "product_id, rating, review_id"),
+    // 내가 쓴 리뷰, 리뷰 작성한 주문 상품 조회용
+    @Index(name = "idx_review_user_order_item", columnList = "user_id, order_item_id")
+}, uniqueConstraints = {
+    // 주문 상품 하나에 리뷰 하나
+    @UniqueConstraint(name = "uk_review_order_item", columnNames = "order_item_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,6 @@
+package org.ezon.msa.enums;
+
+public enum EngagementType {
+	VIEW,   // 상품 상세 조회
+	SALE    // 판매 (quantity 만큼)
+}
@@ -0,0 +1,78 @@
+package org.ezon.msa.enums;
+
+import java.time.LocalDateTime;
+
+import org.ezon.msa.dto.ProductListRow;
+
+// 상품 목록 정렬 기준 (정렬 키 + productId 로 키셋 페이징)
+public enum ProductSort {
+	DEFAULT(null, "p.productId", true),
+	PRICE_ASC("price_asc", "p.price", true),
+	PRICE_DESC("price_desc", "p.price", false),
+	RATING_ASC("rating_asc", "p.averageRating", true),
+	RATING_DESC("rating_desc", "p.averageRating", false),
+	NEWEST("newest", "p.addedAt", false);
+
+	private final String param;
+	private final String keyPath;
+	private final boolean ascending;
+
+	ProductSort(String param, String keyPath, boolean ascending) {
+		this.param = param;
+		this.keyPath = keyPath;
+		this.ascending = ascending;
+	}
+
+	// 요청 파라미터(sort) → 정렬 기준, 알 수 없는 값은 기본 정렬
+	public static ProductSort from(String param) {
+		if (param != null) {
+			for (ProductSort sort : values()) {
+				if (param.equals(sort.param))
+					return sort;
+			}
+		}
+		return DEFAULT;
+	}
+
+	public String keyPath() {
+		return keyPath;
+	}
+
+	public boolean isAscending() {
+		return ascending;
+	}
+
+	public String orderBy() {
+		String direction = ascending ? " ASC" : " DESC";
+		if (this == DEFAULT)
+			return keyPath + direction;
+		return keyPath + direction + ", p.productId" + direction;
+	}
+
+	// 커서 이후 행 조건 (:cursorKey, :cursorId)
+	public String seekPredicate() {
+		String op = ascending ? ">" : "<";
+		if (this == DEFAULT)
+			return "p.productId " + op + " :cursorId";
+		return "(" + keyPath + " " + op + " :cursorKey OR (" + keyPath + " = :cursorKey AND p.productId " + op
+				+ " :cursorId))";
+	}
+
+	public Object keyOf(ProductListRow p) {
+		return switch (this) {
+		case DEFAULT -> p.productId();
+		case PRICE_ASC, PRICE_DESC -> p.price();
+		case RATING_ASC, RATING_DESC -> p.averageRating();
+		case NEWEST -> p.addedAt();
+		};
+	}
+
+	public Object parseKey(String value) {
+		return switch (this) {
+		case DEFAULT -> Long.parseLong(value);
+		case PRICE_ASC, PRICE_DESC -> Integer.parseInt(value);
+		case RATING_ASC, RATING_DESC -> Double.parseDouble(value);
+		case NEWEST -> LocalDateTime.parse(value);
+		};
+	}
+}
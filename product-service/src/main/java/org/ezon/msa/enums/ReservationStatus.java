@@ -0,0 +1,7 @@
+package org.ezon.msa.enums;
+
+public enum ReservationStatus {
+	RESERVED,       // 재고 차감됨, 주문 확정 대기
+    COMMITTED,      // 주문 확정 (차감 유지)
+    RELEASED        // 취소/만료 (재고 복구됨)
+}
@@ -0,0 +1,59 @@
+package org.ezon.msa.enums;
+
+import java.time.LocalDateTime;
+
+import org.ezon.msa.entity.Review;
+
+// 상품 리뷰 목록 정렬 기준 (정렬 키 + reviewId 로 키셋 페이징, product_id 로 시작하는 복합 인덱스 사용)
+public enum ReviewSort {
+	NEWEST("newest", "r.createdAt", false),
+	RATING_DESC("rating_desc", "r.rating", false),
+	RATING_ASC("rating_asc", "r.rating", true);
+
+	private final String param;
+	private final String keyPath;
+	private final boolean ascending;
+
+	ReviewSort(String param, String keyPath, boolean ascending) {
+		this.param = param;
+		this.keyPath = keyPath;
+		this.ascending = ascending;
+	}
+
+	// 요청 파라미터(sort) → 정렬 기준, 알 수 없는 값은 최신순
+	public static ReviewSort from(String param) {
+		if (param != null) {
+			for (ReviewSort sort : values()) {
+				if (param.equals(sort.param))
+					return sort;
+			}
+		}
+		return NEWEST;
+	}
+
+	public String orderBy() {
+		String direction = ascending ? " ASC" : " DESC";
+		return keyPath + direction + ", r.reviewId" + direction;
+	}
+
+	// 커서 이후 행 조건 (:cursorKey, :cursorId)
+	public String seekPredicate() {
+		String op = ascending ? ">" : "<";
+		return "(" + keyPath + " " + op + " :cursorKey OR (" + keyPath + " = :cursorKey AND r.reviewId " + op
+				+ " :cursorId))";
+	}
+
+	public Object keyOf(Review r) {
+		return switch (this) {
+		case NEWEST -> r.getCreatedAt();
+		case RATING_DESC, RATING_ASC -> r.getRating();
+		};
+	}
+
+	public Object parseKey(String value) {
+		return switch (this) {
+		case NEWEST -> LocalDateTime.parse(value);
+		case RATING_DESC, RATING_ASC -> Integer.parseInt(value);
+		};
+	}
+}
@@ -0,0 +1,12 @@
+package org.ezon.msa.event;
+
+import org.ezon.msa.dto.ProductSearchRow;
+
+// 상품 변경 알림 (등록/수정/삭제/상태 변경/리뷰 집계 변경)
+// row 가 null 이면 삭제된 상품
+public record ProductChangedEvent(Long productId, ProductSearchRow row) {
+
+	public boolean isRemoved() {
+		return row == null;
+	}
+}
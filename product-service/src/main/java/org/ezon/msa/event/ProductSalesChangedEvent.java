@@ -0,0 +1,8 @@
+package org.ezon.msa.event;
+
+import java.util.Map;
+
+// 판매수 카운터 반영 알림 (상품별 반영 후 판매수)
+// 다른 컬럼은 그대로이므로 검색 색인/목록/장바구니 캐시는 받지 않고, 판매수 순위를 쓰는 곳만 반영
+public record ProductSalesChangedEvent(Map<Long, Integer> salesCounts) {
+}
@@ -0,0 +1,115 @@
+package org.ezon.msa.flashsale;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+// 플래시 세일 재고 변경 로컬 저널 (고정 길이 레코드 + CRC)
+// - append 는 호출 측 잠금 아래에서 순서대로, 디스크 반영(force)은 sync 에서 여러 요청을 묶어 한 번에
+// - 읽을 때 끝부분의 깨진 레코드(쓰는 중 중단)는 버림
+final class FlashSaleJournal implements Closeable {
+
+	static final byte TAKE = 1;    // 판매 차감 (delta < 0)
+	static final byte UNDO = 2;    // 예약 실패로 차감 취소 (delta > 0)
+
+	record Entry(long seq, byte type, long productId, int delta, UUID key) {
+	}
+
+	private static final int RECORD_SIZE = 1 + 8 + 8 + 4 + 8 + 8 + 4;
+
+	private final FileChannel channel;
+	private final ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE);
+	private final Object syncLock = new Object();
+	private volatile long writtenSeq;
+	private volatile long durableSeq;
+
+	FlashSaleJournal(Path path) throws IOException {
+		if (path.getParent() != null)
+			Files.createDirectories(path.getParent());
+		channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE);
+	}
+
+	// 유효한 레코드 전체 (깨진 꼬리는 잘라냄). 이후 append 는 그 뒤에 이어서 씀
+	List<Entry> readAll() throws IOException {
+		List<Entry> entries = new ArrayList<>();
+		ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+		long position = 0;
+		channel.position(0);
+		while (true) {
+			record.clear();
+			while (record.hasRemaining() && channel.read(record) > 0) {
+			}
+			if (record.hasRemaining())
+				break;
+			record.flip();
+			CRC32 crc = new CRC32();
+			crc.update(record.array(), 0, RECORD_SIZE - 4);
+			byte type = record.get();
+			long seq = record.getLong();
+			long productId = record.getLong();
+			int delta = record.getInt();
+			UUID key = new UUID(record.getLong(), record.getLong());
+			if ((int) crc.getValue() != record.getInt())
+				break;
+			entries.add(new Entry(seq, type, productId, delta, key));
+			position += RECORD_SIZE;
+		}
+		channel.truncate(position);
+		channel.position(position);
+		return entries;
+	}
+
+	// 호출 측에서 순서를 보장 (seq 는 증가해야 함)
+	void append(Entry entry) throws IOException {
+		buffer.clear();
+		buffer.put(entry.type());
+		buffer.putLong(entry.seq());
+		buffer.putLong(entry.productId());
+		buffer.putInt(entry.delta());
+		buffer.putLong(entry.key().getMostSignificantBits());
+		buffer.putLong(entry.key().getLeastSignificantBits());
+		CRC32 crc = new CRC32();
+		crc.update(buffer.array(), 0, RECORD_SIZE - 4);
+		buffer.putInt((int) crc.getValue());
+		buffer.flip();
+		while (buffer.hasRemaining())
+			channel.write(buffer);
+		writtenSeq = entry.seq();
+	}
+
+	// seq 까지 디스크에 반영될 때까지 대기 (먼저 들어온 요청이 force 하면 함께 반영됨)
+	void sync(long seq) throws IOException {
+		if (durableSeq >= seq)
+			return;
+		synchronized (syncLock) {
+			if (durableSeq >= seq)
+				return;
+			long target = writtenSeq;
+			channel.force(false);
+			durableSeq = target;
+		}
+	}
+
+	// 모든 변경이 DB 에 반영된 뒤에만 호출 (호출 측 잠금 아래)
+	void truncate() throws IOException {
+		synchronized (syncLock) {
+			channel.truncate(0);
+			channel.position(0);
+			channel.force(true);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+}
@@ -0,0 +1,450 @@
+package org.ezon.msa.flashsale;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.ezon.msa.dto.ProductSearchRow;
+import org.ezon.msa.entity.FlashSale;
+import org.ezon.msa.entity.Product;
+import org.ezon.msa.enums.ProductStatus;
+import org.ezon.msa.event.ProductChangedEvent;
+import org.ezon.msa.repository.FlashSaleRepository;
+import org.ezon.msa.repository.ProductRepository;
+import org.ezon.msa.repository.StockReservationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+// 플래시 세일: 관리자가 지정한 상품의 재고를 메모리 카운터(StripedStock)로 관리
+// - 판매/복구는 CAS 로 카운터를 바꾸고 로컬 저널에 기록 (DB 행 잠금 없음)
+// - 주기적으로 누적 변경분을 product 테이블에 일괄 반영, 카운터가 0 이 되면 즉시 반영(SOLD_OUT)
+// - 재시작 시 저널과 예약 테이블을 대조해 반영되지 않은 판매만 적용
+//   (예약이 커밋되지 않은 판매는 적용하지 않고, 이미 반영됐다면 되돌림)
+// - 예약 취소분은 취소 트랜잭션에서 DB 재고로 복구하고 커밋 후 카운터에도 돌려줌
+// - 판매중이 아니게 되는 상품은 상태 변경 전에 세일을 종료 (재시작 시에도 정리)
+@Service
+public class FlashSaleService {
+
+	public enum Take {
+		TAKEN,        // 카운터에서 차감됨
+		INSUFFICIENT, // 재고 부족
+		INACTIVE      // 플래시 세일 상품 아님 (DB 차감 대상)
+	}
+
+	private static final class Sale {
+		final StripedStock stock;
+		final AtomicInteger inFlight = new AtomicInteger();
+		// 아직 DB 에 반영되지 않은 변경분 (journalLock 아래에서만 접근)
+		long pending;
+		volatile boolean closing;
+
+		Sale(StripedStock stock) {
+			this.stock = stock;
+		}
+
+		// 판매 처리 끝. 종료 대기 중이면 마지막 판매가 깨움
+		void leave() {
+			if (inFlight.decrementAndGet() == 0 && closing) {
+				synchronized (this) {
+					notifyAll();
+				}
+			}
+		}
+
+		// closing 을 세운 뒤 호출. 진행 중인 판매가 모두 끝나면 true
+		boolean awaitIdle(long timeoutMs) throws InterruptedException {
+			long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+			synchronized (this) {
+				while (inFlight.get() > 0) {
+					long remaining = deadline - System.nanoTime();
+					if (remaining <= 0)
+						return false;
+					TimeUnit.NANOSECONDS.timedWait(this, remaining);
+				}
+			}
+			return true;
+		}
+	}
+
+	private final ProductRepository productRepository;
+	private final FlashSaleRepository flashSaleRepository;
+	private final StockReservationRepository reservationRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final TransactionTemplate tx;
+	// 커밋 후 콜백에서 쓰는 별도 트랜잭션
+	private final TransactionTemplate txNew;
+	private final Path journalPath;
+	private final int stripes;
+
+	private final Map<Long, Sale> sales = new ConcurrentHashMap<>();
+	// 저널 순서 + pending 스냅샷 일관성
+	private final Object journalLock = new Object();
+	private final Object reconcileLock = new Object();
+	private final AtomicBoolean reconcileRequested = new AtomicBoolean();
+	private final ExecutorService soldOutReconciler = Executors.newSingleThreadExecutor(r -> {
+		Thread t = new Thread(r, "flash-sale-reconcile");
+		t.setDaemon(true);
+		return t;
+	});
+	private FlashSaleJournal journal;
+	private long seq;
+	// DB 에 반영된 마지막 저널 번호 (reconcileLock 아래에서만 접근)
+	private long appliedSeq;
+
+	public FlashSaleService(ProductRepository productRepository, FlashSaleRepository flashSaleRepository,
+			StockReservationRepository reservationRepository, ApplicationEventPublisher eventPublisher,
+			PlatformTransactionManager transactionManager,
+			@Value("${product.flashsale.journalPath}") String journalPath,
+			@Value("${product.flashsale.stripes:16}") int stripes) {
+		this.productRepository = productRepository;
+		this.flashSaleRepository = flashSaleRepository;
+		this.reservationRepository = reservationRepository;
+		this.eventPublisher = eventPublisher;
+		this.tx = new TransactionTemplate(transactionManager);
+		this.txNew = new TransactionTemplate(transactionManager);
+		this.txNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		// 작업 디렉터리에 따라 다른 저널을 읽지 않도록 절대 경로만 허용
+		this.journalPath = Path.of(journalPath);
+		if (!this.journalPath.isAbsolute())
+			throw new IllegalStateException("product.flashsale.journalPath 는 절대 경로여야 합니다: " + journalPath);
+		this.stripes = stripes;
+	}
+
+	public boolean isActive(Long productId) {
+		Sale sale = sales.get(productId);
+		return sale != null && !sale.closing;
+	}
+
+	// 진행 중 트랜잭션 안에서 호출. 트랜잭션이 롤백되면 차감을 자동으로 되돌림
+	public Take take(long productId, int quantity, UUID key) {
+		Sale sale = sales.get(productId);
+		if (sale == null)
+			return Take.INACTIVE;
+		if (!TransactionSynchronizationManager.isSynchronizationActive())
+			throw new IllegalStateException("트랜잭션 안에서만 차감할 수 있습니다.");
+		sale.inFlight.incrementAndGet();
+		if (sale.closing) {
+			sale.leave();
+			return Take.INACTIVE;
+		}
+		if (!sale.stock.tryTake(quantity)) {
+			sale.leave();
+			return Take.INSUFFICIENT;
+		}
+		long takenSeq;
+		try {
+			takenSeq = append(sale, FlashSaleJournal.TAKE, productId, -quantity, key);
+		} catch (IOException e) {
+			sale.stock.give(quantity);
+			sale.leave();
+			throw new UncheckedIOException(e);
+		}
+		try {
+			// 응답 전에 저널이 디스크에 남아야 함
+			journal.sync(takenSeq);
+		} catch (IOException e) {
+			undo(sale, productId, quantity, key);
+			sale.leave();
+			throw new UncheckedIOException(e);
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				try {
+					if (status != STATUS_COMMITTED)
+						undo(sale, productId, quantity, key);
+				} finally {
+					sale.leave();
+				}
+			}
+		});
+		if (sale.stock.available() == 0)
+			requestReconcile();
+		return Take.TAKEN;
+	}
+
+	// 예약 취소분 복구. DB 재고는 호출 측이 같은 트랜잭션에서 늘리고, 여기서는 커밋 후 카운터에 돌려줌
+	// (커밋 직후 중단돼도 재시작 시 DB 재고로 카운터를 다시 만들므로 유실 없음)
+	public void restoreAfterCommit(long productId, int quantity) {
+		Sale sale = sales.get(productId);
+		if (sale == null || sale.closing || !TransactionSynchronizationManager.isSynchronizationActive())
+			return;
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				// 그 사이 종료(또는 재시작)된 세일은 DB 재고를 새로 읽었으므로 건너뜀
+				if (sales.get(productId) == sale && !sale.closing)
+					sale.stock.give(quantity);
+			}
+		});
+	}
+
+	// [admin] 플래시 세일 시작: 현재 DB 재고를 카운터로 옮김
+	public void enable(Long productId) {
+		synchronized (reconcileLock) {
+			if (sales.containsKey(productId))
+				throw new IllegalStateException("이미 플래시 세일 중인 상품입니다.");
+			int stock = tx.execute(status -> {
+				Product product = productRepository.findById(productId)
+						.orElseThrow(() -> new NoSuchElementException("상품이 존재하지 않습니다."));
+				if (product.getStatus() != ProductStatus.APPROVED)
+					throw new IllegalStateException("판매중인 상품만 플래시 세일을 시작할 수 있습니다.");
+				long appliedSeq;
+				synchronized (journalLock) {
+					appliedSeq = seq;
+				}
+				// 이 행이 생긴 뒤로 DB 재고 차감은 이 상품을 건너뜀
+				flashSaleRepository.saveAndFlush(FlashSale.builder()
+						.productId(productId)
+						.appliedSeq(appliedSeq)
+						.startedAt(LocalDateTime.now())
+						.build());
+				// 진행 중인 DB 차감이 끝날 때까지 기다린 뒤의 재고
+				Integer locked = productRepository.lockStock(productId);
+				return locked != null ? locked : 0;
+			});
+			sales.put(productId, new Sale(new StripedStock(stock, stripes)));
+		}
+	}
+
+	// [admin] 플래시 세일 종료: 진행 중인 판매를 기다린 뒤 남은 변경분을 반영하고 DB 재고 관리로 되돌림
+	// 대기 시간 초과나 DB 반영 실패 시 세일은 그대로 유지
+	public void disable(Long productId) {
+		Sale sale = sales.get(productId);
+		if (sale == null)
+			throw new NoSuchElementException("플래시 세일 중인 상품이 아닙니다.");
+		sale.closing = true;
+		boolean closed = false;
+		try {
+			if (!sale.awaitIdle(5000))
+				throw new IllegalStateException("진행 중인 주문이 있어 종료하지 못했습니다. 잠시 후 다시 시도해주세요.");
+			synchronized (reconcileLock) {
+				reconcile();
+				tx.executeWithoutResult(status -> flashSaleRepository.deleteById(productId));
+				sales.remove(productId);
+			}
+			closed = true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("플래시 세일 종료가 중단되었습니다.", e);
+		} finally {
+			if (!closed)
+				sale.closing = false;
+		}
+	}
+
+	// 판매중이 아니게 되는 상품(승인 취소/거절)의 세일 종료. 세일 중이 아니면 아무것도 안 함
+	public void disableIfActive(Long productId) {
+		if (sales.containsKey(productId))
+			disable(productId);
+	}
+
+	// 남은 수량 (근사값)
+	public Integer available(Long productId) {
+		Sale sale = sales.get(productId);
+		return sale != null ? sale.stock.available() : null;
+	}
+
+	@Scheduled(fixedDelayString = "${product.flashsale.reconcileMs:1000}")
+	public void reconcile() {
+		synchronized (reconcileLock) {
+			reconcileRequested.set(false);
+			if (sales.isEmpty())
+				return;
+			long upTo;
+			SortedMap<Long, Integer> deltas = new TreeMap<>();
+			synchronized (journalLock) {
+				upTo = seq;
+				if (upTo == appliedSeq)
+					return;
+				sales.forEach((productId, sale) -> {
+					if (sale.pending != 0)
+						deltas.put(productId, (int) sale.pending);
+					sale.pending = 0;
+				});
+			}
+			try {
+				journal.sync(upTo);
+				tx.executeWithoutResult(status -> {
+					if (!deltas.isEmpty())
+						productRepository.applyStockDeltas(deltas);
+					flashSaleRepository.updateAppliedSeq(sales.keySet(), upTo);
+				});
+			} catch (IOException | RuntimeException e) {
+				synchronized (journalLock) {
+					deltas.forEach((productId, delta) -> {
+						Sale sale = sales.get(productId);
+						if (sale != null)
+							sale.pending += delta;
+					});
+				}
+				if (e instanceof IOException io)
+					throw new UncheckedIOException(io);
+				throw (RuntimeException) e;
+			}
+			appliedSeq = upTo;
+			if (!deltas.isEmpty())
+				publishChanged(deltas.keySet());
+			truncateIfIdle(upTo);
+		}
+	}
+
+	@PostConstruct
+	public void recover() throws IOException {
+		journal = new FlashSaleJournal(journalPath);
+		List<FlashSaleJournal.Entry> entries = journal.readAll();
+		List<FlashSale> active = flashSaleRepository.findAll();
+
+		Map<Long, Long> appliedBySale = new HashMap<>();
+		long maxSeq = 0;
+		for (FlashSale sale : active) {
+			appliedBySale.put(sale.getProductId(), sale.getAppliedSeq());
+			maxSeq = Math.max(maxSeq, sale.getAppliedSeq());
+		}
+		Set<String> keys = new HashSet<>();
+		for (FlashSaleJournal.Entry entry : entries) {
+			maxSeq = Math.max(maxSeq, entry.seq());
+			if (appliedBySale.containsKey(entry.productId()))
+				keys.add(entry.key().toString());
+		}
+		Set<String> committed = new HashSet<>();
+		List<String> keyList = new ArrayList<>(keys);
+		for (int i = 0; i < keyList.size(); i += 500)
+			committed.addAll(reservationRepository.findExistingKeys(keyList.subList(i, Math.min(i + 500, keyList.size()))));
+
+		// 예약이 있는 판매: 아직 반영 안 된 것만 적용 / 예약이 없는 판매: 이미 반영된 것을 되돌림
+		SortedMap<Long, Integer> deltas = new TreeMap<>();
+		for (FlashSaleJournal.Entry entry : entries) {
+			Long applied = appliedBySale.get(entry.productId());
+			if (applied == null)
+				continue;
+			boolean exists = committed.contains(entry.key().toString());
+			if (exists && entry.seq() > applied)
+				deltas.merge(entry.productId(), entry.delta(), Integer::sum);
+			else if (!exists && entry.seq() <= applied)
+				deltas.merge(entry.productId(), -entry.delta(), Integer::sum);
+		}
+		deltas.values().removeIf(delta -> delta == 0);
+
+		long recoveredSeq = maxSeq;
+		Map<Long, Integer> stocks = tx.execute(status -> {
+			if (!deltas.isEmpty())
+				productRepository.applyStockDeltas(deltas);
+			if (!appliedBySale.isEmpty())
+				flashSaleRepository.updateAppliedSeq(appliedBySale.keySet(), recoveredSeq);
+			// 판매중이 아닌 상품(종료 전에 중단됨)의 세일은 변경분만 반영하고 종료
+			Map<Long, Integer> selling = new HashMap<>();
+			for (Long productId : appliedBySale.keySet()) {
+				Product product = productRepository.findById(productId).orElse(null);
+				if (product != null && isSelling(product.getStatus()))
+					selling.put(productId, product.getStockQuantity());
+				else
+					flashSaleRepository.deleteById(productId);
+			}
+			return selling;
+		});
+		journal.truncate();
+		seq = recoveredSeq;
+		appliedSeq = recoveredSeq;
+
+		stocks.forEach((productId, stock) -> sales.put(productId, new Sale(new StripedStock(stock, stripes))));
+	}
+
+	@PreDestroy
+	public void shutdown() throws IOException {
+		soldOutReconciler.shutdown();
+		try {
+			reconcile();
+		} finally {
+			journal.close();
+		}
+	}
+
+	private long append(Sale sale, byte type, long productId, int delta, UUID key) throws IOException {
+		synchronized (journalLock) {
+			long next = seq + 1;
+			journal.append(new FlashSaleJournal.Entry(next, type, productId, delta, key));
+			seq = next;
+			sale.pending += delta;
+			return next;
+		}
+	}
+
+	// 판매 취소: 카운터에 돌려주고 저널에 기록 (기록 실패 시 반영할 변경분만 직접 되돌림)
+	private void undo(Sale sale, long productId, int quantity, UUID key) {
+		sale.stock.give(quantity);
+		try {
+			append(sale, FlashSaleJournal.UNDO, productId, quantity, key);
+		} catch (IOException e) {
+			synchronized (journalLock) {
+				sale.pending += quantity;
+			}
+		}
+	}
+
+	// 카운터가 0 이 되면 주기를 기다리지 않고 바로 반영 (품절 표시)
+	private void requestReconcile() {
+		if (reconcileRequested.compareAndSet(false, true)) {
+			soldOutReconciler.execute(() -> {
+				try {
+					reconcile();
+				} catch (RuntimeException e) {
+					// 다음 주기에 다시 시도
+				}
+			});
+		}
+	}
+
+	// 반영이 끝났고 진행 중인 판매가 없을 때만 저널을 비움
+	private void truncateIfIdle(long upTo) {
+		synchronized (journalLock) {
+			if (seq != upTo)
+				return;
+			for (Sale sale : sales.values()) {
+				if (sale.inFlight.get() > 0)
+					return;
+			}
+			try {
+				journal.truncate();
+			} catch (IOException e) {
+				// 다음 반영 때 다시 시도 (남은 레코드는 재시작 시 appliedSeq 로 걸러짐)
+			}
+		}
+	}
+
+	private static boolean isSelling(ProductStatus status) {
+		return status == ProductStatus.APPROVED || status == ProductStatus.SOLD_OUT;
+	}
+
+	private void publishChanged(Set<Long> productIds) {
+		for (ProductSearchRow row : productRepository.findSearchRows(productIds))
+			eventPublisher.publishEvent(new ProductChangedEvent(row.productId(), row));
+	}
+}
@@ -0,0 +1,66 @@
+package org.ezon.msa.flashsale;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+// 재고를 여러 칸(stripe)에 나눠 담은 카운터
+// 스레드마다 시작 칸을 달리해 CAS 경합을 분산하고, 칸이 비면 다음 칸에서 가져옴
+// 한 번에 여러 개를 가져올 때 일부만 성공하면 가져온 만큼 되돌림 (전부 아니면 실패)
+final class StripedStock {
+
+	private final AtomicIntegerArray stripes;
+
+	StripedStock(int stock, int stripeCount) {
+		int n = Math.max(1, Math.min(stripeCount, Math.max(1, stock)));
+		stripes = new AtomicIntegerArray(n);
+		for (int i = 0; i < n; i++)
+			stripes.set(i, stock / n + (i < stock % n ? 1 : 0));
+	}
+
+	boolean tryTake(int quantity) {
+		int n = stripes.length();
+		int start = ThreadLocalRandom.current().nextInt(n);
+		int remaining = quantity;
+		int[] taken = null;
+		for (int k = 0; k < n && remaining > 0; k++) {
+			int i = (start + k) % n;
+			while (true) {
+				int current = stripes.get(i);
+				if (current == 0)
+					break;
+				int take = Math.min(current, remaining);
+				if (stripes.compareAndSet(i, current, current - take)) {
+					if (take < quantity) {
+						if (taken == null)
+							taken = new int[n];
+						taken[i] += take;
+					}
+					remaining -= take;
+					break;
+				}
+			}
+		}
+		if (remaining == 0)
+			return true;
+		// 부족: 가져온 만큼 되돌림
+		if (taken != null) {
+			for (int i = 0; i < n; i++) {
+				if (taken[i] > 0)
+					stripes.addAndGet(i, taken[i]);
+			}
+		}
+		return false;
+	}
+
+	void give(int quantity) {
+		stripes.addAndGet(ThreadLocalRandom.current().nextInt(stripes.length()), quantity);
+	}
+
+	// 동시 변경 중에는 근사값
+	int available() {
+		int sum = 0;
+		for (int i = 0; i < stripes.length(); i++)
+			sum += stripes.get(i);
+		return sum;
+	}
+}
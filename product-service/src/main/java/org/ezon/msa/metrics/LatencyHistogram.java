@@ -0,0 +1,87 @@
+package org.ezon.msa.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// 고정 구간 지연 시간 분포 (잠금 없이 여러 스레드에서 기록)
+// 백분위는 해당 순위가 속한 구간의 상한으로 계산 (최대값을 넘지 않음)
+public final class LatencyHistogram {
+
+	// 구간 상한 (ms), 마지막 구간은 그 이상 전부
+	private static final double[] BOUNDS_MS = { 1, 2, 3, 5, 7.5, 10, 15, 20, 30, 50, 75, 100, 150, 200, 300, 500,
+			750, 1000, 1500, 2000, 3000, 5000, 10000 };
+	private static final long[] BOUNDS_NANOS = new long[BOUNDS_MS.length];
+	private static final String[] LABELS = new String[BOUNDS_MS.length + 1];
+
+	static {
+		for (int i = 0; i < BOUNDS_MS.length; i++) {
+			BOUNDS_NANOS[i] = (long) (BOUNDS_MS[i] * 1_000_000);
+			LABELS[i] = BOUNDS_MS[i] % 1 == 0 ? String.valueOf((long) BOUNDS_MS[i]) : String.valueOf(BOUNDS_MS[i]);
+		}
+		LABELS[BOUNDS_MS.length] = "+Inf";
+	}
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BOUNDS_MS.length + 1);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder totalNanos = new LongAdder();
+	private final AtomicLong maxNanos = new AtomicLong();
+
+	public void record(long nanos) {
+		int i = 0;
+		while (i < BOUNDS_NANOS.length && nanos > BOUNDS_NANOS[i])
+			i++;
+		buckets.incrementAndGet(i);
+		count.increment();
+		totalNanos.add(nanos);
+		maxNanos.accumulateAndGet(nanos, Math::max);
+	}
+
+	public long count() {
+		return count.sum();
+	}
+
+	public long totalNanos() {
+		return totalNanos.sum();
+	}
+
+	public Snapshot snapshot() {
+		long[] counts = new long[buckets.length()];
+		long n = 0;
+		for (int i = 0; i < counts.length; i++) {
+			counts[i] = buckets.get(i);
+			n += counts[i];
+		}
+		double maxMs = maxNanos.get() / 1e6;
+		List<Bucket> nonEmpty = new ArrayList<>();
+		for (int i = 0; i < counts.length; i++) {
+			if (counts[i] > 0)
+				nonEmpty.add(new Bucket(LABELS[i], counts[i]));
+		}
+		return new Snapshot(n, n == 0 ? 0 : totalNanos.sum() / 1e6 / n, percentile(counts, n, 0.5, maxMs),
+				percentile(counts, n, 0.9, maxMs), percentile(counts, n, 0.99, maxMs), maxMs, nonEmpty);
+	}
+
+	private static double percentile(long[] counts, long n, double p, double maxMs) {
+		if (n == 0)
+			return 0;
+		long rank = (long) Math.ceil(p * n);
+		long seen = 0;
+		for (int i = 0; i < counts.length; i++) {
+			seen += counts[i];
+			if (seen >= rank)
+				return i < BOUNDS_MS.length ? Math.min(BOUNDS_MS[i], maxMs) : maxMs;
+		}
+		return maxMs;
+	}
+
+	// le: 구간 상한 (ms)
+	public record Bucket(String le, long count) {
+	}
+
+	public record Snapshot(long count, double meanMs, double p50Ms, double p90Ms, double p99Ms, double maxMs,
+			List<Bucket> buckets) {
+	}
+}
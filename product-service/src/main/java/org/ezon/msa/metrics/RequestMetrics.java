@@ -0,0 +1,185 @@
+package org.ezon.msa.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.ezon.msa.client.OutboundClients;
+import org.ezon.msa.client.OutboundDependency;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 엔드포인트별 요청 지표
+// - 지연 분포, 요청당 SQL 실행 수/조회 행 수, 외부 서비스별 호출 수와 지연 분포
+// - slowMs 이상 걸린 요청은 내역과 함께 로그
+// - N+1 감지(선택): 응답 항목 수 대비 SQL 수의 기울기(최소제곱)가 queriesPerItem 이상이면 의심으로 표시하고 해당 요청 로그
+@Component
+public class RequestMetrics {
+
+	private static final Logger log = LoggerFactory.getLogger(RequestMetrics.class);
+
+	private final OutboundClients outboundClients;
+	private final long slowNanos;
+	private final boolean nPlusOneDetection;
+	private final int nPlusOneMinSamples;
+	private final double nPlusOneQueriesPerItem;
+	private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+
+	public RequestMetrics(OutboundClients outboundClients,
+			@Value("${product.metrics.slowMs:1000}") long slowMs,
+			@Value("${product.metrics.nPlusOneDetection:false}") boolean nPlusOneDetection,
+			@Value("${product.metrics.nPlusOneMinSamples:10}") int nPlusOneMinSamples,
+			@Value("${product.metrics.nPlusOneQueriesPerItem:0.5}") double nPlusOneQueriesPerItem) {
+		this.outboundClients = outboundClients;
+		this.slowNanos = slowMs * 1_000_000;
+		this.nPlusOneDetection = nPlusOneDetection;
+		this.nPlusOneMinSamples = Math.max(2, nPlusOneMinSamples);
+		this.nPlusOneQueriesPerItem = nPlusOneQueriesPerItem;
+	}
+
+	public boolean isNPlusOneDetection() {
+		return nPlusOneDetection;
+	}
+
+	// endpoint: "GET /api/products/{productId}" 형태
+	public void record(String endpoint, int status, RequestTrace trace) {
+		long nanos = trace.elapsedNanos();
+		List<RequestTrace.OutboundCall> calls = trace.outboundCalls();
+		EndpointStats stats = endpoints.computeIfAbsent(endpoint, k -> new EndpointStats());
+		stats.record(nanos, status, trace.sqlStatements(), trace.rowsFetched(), calls);
+
+		Double queriesPerItem = null;
+		if (nPlusOneDetection && trace.resultSize() >= 0) {
+			stats.fit.add(trace.resultSize(), trace.sqlStatements());
+			queriesPerItem = stats.fit.slope(nPlusOneMinSamples);
+			if (queriesPerItem != null && queriesPerItem >= nPlusOneQueriesPerItem && trace.resultSize() > 1)
+				log.warn("N+1 suspect {}: {} queries for {} items (~{} queries/item over {} requests)", endpoint,
+						trace.sqlStatements(), trace.resultSize(), String.format("%.2f", queriesPerItem),
+						stats.fit.samples());
+		}
+		if (nanos >= slowNanos)
+			log.warn("slow request {} {}ms status={} sql={} rows={} items={} outbound={}", endpoint, nanos / 1_000_000,
+					status, trace.sqlStatements(), trace.rowsFetched(), trace.resultSize(), describe(calls));
+	}
+
+	public Snapshot snapshot() {
+		List<EndpointSnapshot> result = new ArrayList<>();
+		endpoints.forEach((endpoint, stats) -> result.add(stats.snapshot(endpoint, nPlusOneDetection,
+				nPlusOneMinSamples, nPlusOneQueriesPerItem)));
+		// 전체 소요 시간이 큰 순서
+		result.sort(Comparator.comparingDouble((EndpointSnapshot e) -> e.latency().meanMs() * e.requests()).reversed());
+		Map<String, LatencyHistogram.Snapshot> outbound = new LinkedHashMap<>();
+		for (OutboundDependency dependency : outboundClients.getAll())
+			outbound.put(dependency.getName(), dependency.getLatency().snapshot());
+		return new Snapshot(result, outbound);
+	}
+
+	public void reset() {
+		endpoints.clear();
+	}
+
+	// user x2 (avg 41ms, max 63ms), qna x1 (...)
+	private static String describe(List<RequestTrace.OutboundCall> calls) {
+		if (calls.isEmpty())
+			return "none";
+		Map<String, long[]> byDependency = new TreeMap<>();
+		for (RequestTrace.OutboundCall call : calls) {
+			long[] agg = byDependency.computeIfAbsent(call.dependency(), k -> new long[3]);
+			agg[0]++;
+			agg[1] += call.nanos();
+			agg[2] = Math.max(agg[2], call.nanos());
+		}
+		StringBuilder sb = new StringBuilder();
+		byDependency.forEach((name, agg) -> {
+			if (sb.length() > 0)
+				sb.append(", ");
+			sb.append(name).append(" x").append(agg[0]).append(" (avg ").append(agg[1] / agg[0] / 1_000_000)
+					.append("ms, max ").append(agg[2] / 1_000_000).append("ms)");
+		});
+		return sb.toString();
+	}
+
+	private static final class EndpointStats {
+
+		private final LatencyHistogram latency = new LatencyHistogram();
+		private final LongAdder serverErrors = new LongAdder();
+		private final LongAdder sqlStatements = new LongAdder();
+		private final AtomicLong sqlMax = new AtomicLong();
+		private final LongAdder rowsFetched = new LongAdder();
+		private final AtomicLong rowsMax = new AtomicLong();
+		private final Map<String, LatencyHistogram> outbound = new ConcurrentHashMap<>();
+		private final LinearFit fit = new LinearFit();
+
+		void record(long nanos, int status, int sql, long rows, List<RequestTrace.OutboundCall> calls) {
+			latency.record(nanos);
+			if (status >= 500)
+				serverErrors.increment();
+			sqlStatements.add(sql);
+			sqlMax.accumulateAndGet(sql, Math::max);
+			rowsFetched.add(rows);
+			rowsMax.accumulateAndGet(rows, Math::max);
+			for (RequestTrace.OutboundCall call : calls)
+				outbound.computeIfAbsent(call.dependency(), k -> new LatencyHistogram()).record(call.nanos());
+		}
+
+		EndpointSnapshot snapshot(String endpoint, boolean nPlusOneDetection, int minSamples, double threshold) {
+			LatencyHistogram.Snapshot latencySnapshot = latency.snapshot();
+			long n = Math.max(1, latencySnapshot.count());
+			Map<String, LatencyHistogram.Snapshot> outboundSnapshot = new TreeMap<>();
+			outbound.forEach((name, histogram) -> outboundSnapshot.put(name, histogram.snapshot()));
+			Double queriesPerItem = nPlusOneDetection ? fit.slope(minSamples) : null;
+			return new EndpointSnapshot(endpoint, latencySnapshot.count(), serverErrors.sum(), latencySnapshot,
+					(double) sqlStatements.sum() / n, sqlMax.get(), (double) rowsFetched.sum() / n, rowsMax.get(),
+					outboundSnapshot, queriesPerItem, queriesPerItem != null && queriesPerItem >= threshold);
+		}
+	}
+
+	// (응답 항목 수, SQL 수) 최소제곱 직선의 기울기 = 항목 하나당 늘어나는 SQL 수
+	private static final class LinearFit {
+
+		private long n;
+		private double sumX;
+		private double sumY;
+		private double sumXY;
+		private double sumXX;
+
+		synchronized void add(double x, double y) {
+			n++;
+			sumX += x;
+			sumY += y;
+			sumXY += x * y;
+			sumXX += x * x;
+		}
+
+		synchronized long samples() {
+			return n;
+		}
+
+		// 표본이 적거나 항목 수가 모두 같으면 null
+		synchronized Double slope(int minSamples) {
+			if (n < minSamples)
+				return null;
+			double varX = n * sumXX - sumX * sumX;
+			if (varX <= 0)
+				return null;
+			return (n * sumXY - sumX * sumY) / varX;
+		}
+	}
+
+	public record EndpointSnapshot(String endpoint, long requests, long serverErrors, LatencyHistogram.Snapshot latency,
+			double sqlPerRequest, long sqlMax, double rowsPerRequest, long rowsMax,
+			Map<String, LatencyHistogram.Snapshot> outbound, Double queriesPerItem, boolean nPlusOneSuspect) {
+	}
+
+	// outbound: 외부 서비스별 전체 호출 지연 분포 (요청 밖 호출 포함)
+	public record Snapshot(List<EndpointSnapshot> endpoints, Map<String, LatencyHistogram.Snapshot> outbound) {
+	}
+}
@@ -0,0 +1,54 @@
+package org.ezon.msa.metrics;
+
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// 컨트롤러 요청마다 RequestTrace 를 시작/종료하고 RequestMetrics 에 기록
+// 엔드포인트 이름은 매핑된 URL 패턴 ("GET /api/products/{productId}")
+// 비동기 응답(관리자 내보내기 스트리밍)은 요청 스레드가 끝나는 시점에 기록을 버림
+public class RequestMetricsInterceptor implements AsyncHandlerInterceptor {
+
+	private static final String TRACE_ATTRIBUTE = RequestMetricsInterceptor.class.getName() + ".trace";
+
+	private final RequestMetrics requestMetrics;
+
+	public RequestMetricsInterceptor(RequestMetrics requestMetrics) {
+		this.requestMetrics = requestMetrics;
+	}
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		if (request.getDispatcherType() != DispatcherType.REQUEST)
+			return true;
+		RequestTrace trace = new RequestTrace();
+		request.setAttribute(TRACE_ATTRIBUTE, trace);
+		RequestTrace.bind(trace);
+		return true;
+	}
+
+	@Override
+	public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+			Object handler) {
+		request.removeAttribute(TRACE_ATTRIBUTE);
+		RequestTrace.unbind();
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+			Exception ex) {
+		RequestTrace trace = (RequestTrace) request.getAttribute(TRACE_ATTRIBUTE);
+		if (trace == null)
+			return;
+		request.removeAttribute(TRACE_ATTRIBUTE);
+		RequestTrace.unbind();
+		Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		String endpoint = request.getMethod() + " " + (pattern != null ? pattern : "UNMAPPED");
+		// 처리되지 않은 예외는 이 시점에 아직 200 이므로 500 으로 기록
+		int status = ex != null && response.getStatus() < 400 ? 500 : response.getStatus();
+		requestMetrics.record(endpoint, status, trace);
+	}
+}
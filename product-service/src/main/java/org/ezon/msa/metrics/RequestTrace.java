@@ -0,0 +1,97 @@
+package org.ezon.msa.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 요청 하나 동안의 SQL 실행 수, 조회 행 수, 외부 호출 기록
+// - 요청 스레드에 묶고(bind), 보강 스레드 작업은 wrap 으로 같은 기록에 이어서 씀
+// - 여러 스레드가 동시에 기록하므로 카운터는 원자적으로
+public final class RequestTrace {
+
+	private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+	private final long startNanos = System.nanoTime();
+	private final AtomicInteger sqlStatements = new AtomicInteger();
+	private final AtomicLong rowsFetched = new AtomicLong();
+	private final List<OutboundCall> outboundCalls = new ArrayList<>();
+	// 응답 항목 수 (N+1 감지 모드에서만, 모르면 -1)
+	private volatile int resultSize = -1;
+
+	// 현재 스레드의 요청 기록 (요청 밖이면 null)
+	public static RequestTrace current() {
+		return CURRENT.get();
+	}
+
+	static void bind(RequestTrace trace) {
+		CURRENT.set(trace);
+	}
+
+	static void unbind() {
+		CURRENT.remove();
+	}
+
+	// 호출 스레드의 요청 기록을 작업 실행 스레드로 넘김
+	public static Runnable wrap(Runnable task) {
+		RequestTrace trace = CURRENT.get();
+		if (trace == null)
+			return task;
+		return () -> {
+			RequestTrace previous = CURRENT.get();
+			CURRENT.set(trace);
+			try {
+				task.run();
+			} finally {
+				if (previous == null)
+					CURRENT.remove();
+				else
+					CURRENT.set(previous);
+			}
+		};
+	}
+
+	public void onStatement() {
+		sqlStatements.incrementAndGet();
+	}
+
+	public void onRow() {
+		rowsFetched.incrementAndGet();
+	}
+
+	public void onOutbound(String dependency, long nanos, int status) {
+		synchronized (outboundCalls) {
+			outboundCalls.add(new OutboundCall(dependency, nanos, status));
+		}
+	}
+
+	void setResultSize(int resultSize) {
+		this.resultSize = resultSize;
+	}
+
+	long elapsedNanos() {
+		return System.nanoTime() - startNanos;
+	}
+
+	int sqlStatements() {
+		return sqlStatements.get();
+	}
+
+	long rowsFetched() {
+		return rowsFetched.get();
+	}
+
+	int resultSize() {
+		return resultSize;
+	}
+
+	List<OutboundCall> outboundCalls() {
+		synchronized (outboundCalls) {
+			return List.copyOf(outboundCalls);
+		}
+	}
+
+	// status: HTTP 상태 코드, 응답 없이 실패하면 0
+	public record OutboundCall(String dependency, long nanos, int status) {
+	}
+}
@@ -0,0 +1,64 @@
+package org.ezon.msa.metrics;
+
+import java.lang.reflect.RecordComponent;
+import java.util.Collection;
+import java.util.Map;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+// N+1 감지 모드에서 응답 항목 수를 RequestTrace 에 남김
+// - 목록이면 크기, 목록을 담은 record(ProductScrollView 등)면 첫 목록 필드 크기
+// - {"reviews": [...]} 처럼 항목 하나짜리 Map 에 목록이 있으면 그 크기, 그 밖의 Map 은 항목 수
+@ControllerAdvice
+public class ResultSizeAdvice implements ResponseBodyAdvice<Object> {
+
+	private final RequestMetrics requestMetrics;
+
+	public ResultSizeAdvice(RequestMetrics requestMetrics) {
+		this.requestMetrics = requestMetrics;
+	}
+
+	@Override
+	public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+		return requestMetrics.isNPlusOneDetection();
+	}
+
+	@Override
+	public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+			Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+			ServerHttpResponse response) {
+		RequestTrace trace = RequestTrace.current();
+		if (trace != null && body != null)
+			trace.setResultSize(sizeOf(body));
+		return body;
+	}
+
+	static int sizeOf(Object body) {
+		if (body instanceof Collection<?> collection)
+			return collection.size();
+		if (body instanceof Map<?, ?> map) {
+			if (map.size() == 1 && map.values().iterator().next() instanceof Collection<?> collection)
+				return collection.size();
+			return map.size();
+		}
+		if (body.getClass().isRecord()) {
+			for (RecordComponent component : body.getClass().getRecordComponents()) {
+				if (!Collection.class.isAssignableFrom(component.getType()))
+					continue;
+				try {
+					Object value = component.getAccessor().invoke(body);
+					return value == null ? 0 : ((Collection<?>) value).size();
+				} catch (ReflectiveOperationException e) {
+					return -1;
+				}
+			}
+		}
+		return -1;
+	}
+}
@@ -0,0 +1,119 @@
+package org.ezon.msa.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Arrays;
+
+import javax.sql.DataSource;
+
+import org.springframework.util.ClassUtils;
+
+// DataSource 를 감싸 요청 중 실행한 SQL 수와 읽은 행 수를 RequestTrace 에 기록
+// - JPA, JdbcTemplate 모두 이 연결을 거치므로 같은 방식으로 셈
+// - execute* 한 번 = SQL 1건 (배치는 1건), ResultSet.next() 가 true 인 횟수 = 행 수
+// - 요청 밖(스케줄러, 색인 재적재 등)에서는 기록하지 않고 ResultSet 도 감싸지 않음
+public final class SqlCountingDataSource {
+
+	private SqlCountingDataSource() {
+	}
+
+	public static DataSource wrap(DataSource dataSource) {
+		return proxy(dataSource, (proxy, method, args) -> {
+			Object result = invoke(dataSource, method, args);
+			if (result instanceof Connection connection && method.getName().equals("getConnection"))
+				return proxy(connection, new ConnectionHandler(connection));
+			return result;
+		});
+	}
+
+	private static final class ConnectionHandler implements InvocationHandler {
+
+		private final Connection target;
+
+		ConnectionHandler(Connection target) {
+			this.target = target;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			if (method.getName().equals("equals"))
+				return proxy == args[0];
+			Object result = SqlCountingDataSource.invoke(target, method, args);
+			if (result instanceof Statement statement)
+				return proxy(statement, new StatementHandler(statement, (Connection) proxy));
+			return result;
+		}
+	}
+
+	private static final class StatementHandler implements InvocationHandler {
+
+		private final Statement target;
+		private final Connection connection;
+
+		StatementHandler(Statement target, Connection connection) {
+			this.target = target;
+			this.connection = connection;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			String name = method.getName();
+			if (name.equals("equals"))
+				return proxy == args[0];
+			if (name.equals("getConnection"))
+				return connection;
+			RequestTrace trace = RequestTrace.current();
+			if (trace != null && name.startsWith("execute"))
+				trace.onStatement();
+			Object result = SqlCountingDataSource.invoke(target, method, args);
+			if (trace != null && result instanceof ResultSet resultSet
+					&& (name.equals("executeQuery") || name.equals("getResultSet")))
+				return proxy(resultSet, new ResultSetHandler(resultSet, trace));
+			return result;
+		}
+	}
+
+	private static final class ResultSetHandler implements InvocationHandler {
+
+		private final ResultSet target;
+		private final RequestTrace trace;
+
+		ResultSetHandler(ResultSet target, RequestTrace trace) {
+			this.target = target;
+			this.trace = trace;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			if (method.getName().equals("equals"))
+				return proxy == args[0];
+			Object result = SqlCountingDataSource.invoke(target, method, args);
+			if (method.getName().equals("next") && Boolean.TRUE.equals(result))
+				trace.onRow();
+			return result;
+		}
+	}
+
+	// 대상이 구현한 공개 인터페이스 전부로 프록시 (PreparedStatement, Closeable 등 타입 검사 유지)
+	@SuppressWarnings("unchecked")
+	private static <T> T proxy(T target, InvocationHandler handler) {
+		Class<?>[] interfaces = Arrays.stream(ClassUtils.getAllInterfaces(target))
+				.filter(type -> Modifier.isPublic(type.getModifiers()))
+				.toArray(Class<?>[]::new);
+		return (T) Proxy.newProxyInstance(SqlCountingDataSource.class.getClassLoader(), interfaces, handler);
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+}
@@ -0,0 +1,16 @@
+package org.ezon.msa.repository;
+
+import java.util.Collection;
+
+import org.ezon.msa.entity.FlashSale;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface FlashSaleRepository extends JpaRepository<FlashSale, Long> {
+
+	@Modifying
+	@Query("UPDATE FlashSale f SET f.appliedSeq = :appliedSeq WHERE f.productId IN :productIds")
+	int updateAppliedSeq(@Param("productIds") Collection<Long> productIds, @Param("appliedSeq") long appliedSeq);
+}
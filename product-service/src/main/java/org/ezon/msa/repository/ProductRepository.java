@@ -1,41 +1,136 @@
 package org.ezon.msa.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.ezon.msa.dto.CartProductView;
+import org.ezon.msa.dto.ProductListRow;
+import org.ezon.msa.dto.ProductSearchRow;
+import org.ezon.msa.dto.ReviewSummary;
 import org.ezon.msa.entity.Product;
 import org.ezon.msa.enums.ProductStatus;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface ProductRepository extends JpaRepository<Product, Long> {
+import jakarta.persistence.QueryHint;
 
-	List<Product> findByUserId(Long userId);
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
 
-	List<Product> findTop10ByNameStartingWithIgnoreCase(String prefix);
+	// 목록 조회는 모두 ProductListRow 로 (description 은 상세 조회에서만 읽음)
+	// 파생 쿼리는 반환 타입의 생성자 컬럼만 조회
+	String LIST_ROW_SELECT = """
+			SELECT new org.ezon.msa.dto.ProductListRow(p.productId, p.categoryId, p.userId, p.sellerAddressId,
+			    p.name, p.price, p.discountPrice, p.stockQuantity, p.image, p.status, p.courierName, p.shippingFee,
+			    p.reviewCount, p.salesCount, p.averageRating, p.addedAt)
+			FROM Product p
+			""";
 
-	List<Product> findByUserIdAndNameContainingIgnoreCase(Long userId, String keyword);
+	List<ProductListRow> findByUserId(Long userId);
 
-	List<Product> findByCategoryIdAndPriceBetweenAndStatus(Long categoryId, int minPrice, int maxPrice, String status);
+	List<ProductListRow> findTop10ByNameStartingWithIgnoreCase(String prefix);
 
-	List<Product> findByNameContainingIgnoreCaseAndStatus(String keyword, ProductStatus status);
+	List<ProductListRow> findByUserIdAndNameContainingIgnoreCase(Long userId, String keyword);
 
-	List<Product> findByCategoryIdAndStatus(Long categoryId, ProductStatus status);
+	// 카테고리 조건은 모두 하위 카테고리 포함 (카테고리 lft 범위 하나로 조회, 구간 계산 전 카테고리는 정확히 일치하는 것만)
+	// OR 를 IN 서브쿼리 안에 두어야 category 를 먼저 읽고 product 인덱스(status, category_id)로 조인함
+	@Query(LIST_ROW_SELECT + """
+		    WHERE p.status = :status AND p.price BETWEEN :minPrice AND :maxPrice
+		      AND p.categoryId IN (
+		          SELECT d.categoryId FROM Category d, Category root
+		          WHERE root.categoryId = :categoryId
+		            AND (d.categoryId = root.categoryId OR d.lft BETWEEN root.lft AND root.rgt))
+		""")
+		List<ProductListRow> findInCategoryTreeAndPriceBetweenAndStatus(@Param("categoryId") Long categoryId,
+				@Param("minPrice") int minPrice, @Param("maxPrice") int maxPrice, @Param("status") ProductStatus status);
 
-	List<Product> findByStatus(ProductStatus status);
+	List<ProductListRow> findByNameContainingIgnoreCaseAndStatus(String keyword, ProductStatus status);
 
-	List<Product> findByProductIdIn(List<Long> productIds);
-	
+	@Query(LIST_ROW_SELECT + """
+		    WHERE p.status = :status
+		      AND p.categoryId IN (
+		          SELECT d.categoryId FROM Category d, Category root
+		          WHERE root.categoryId = :categoryId
+		            AND (d.categoryId = root.categoryId OR d.lft BETWEEN root.lft AND root.rgt))
+		""")
+		List<ProductListRow> findInCategoryTreeAndStatus(@Param("categoryId") Long categoryId,
+				@Param("status") ProductStatus status);
+
+	List<ProductListRow> findByStatus(ProductStatus status);
+
+	List<ProductListRow> findByProductIdIn(List<Long> productIds);
+
+	@Query(LIST_ROW_SELECT)
+	List<ProductListRow> findAllListRows();
+
+	@Query("SELECT p.productId FROM Product p")
+	List<Long> findAllProductIds();
+
+	// 메모리 검색 구조 적재용 (description 등 큰 컬럼 제외)
+	@Query("""
+		    SELECT new org.ezon.msa.dto.ProductSearchRow(p.productId, p.userId, p.categoryId, p.name, p.status,
+		        p.price, p.discountPrice, p.averageRating, p.reviewCount, p.salesCount, p.addedAt)
+		    FROM Product p
+		""")
+		List<ProductSearchRow> findAllSearchRows();
+
+	@Query("""
+		    SELECT new org.ezon.msa.dto.ProductSearchRow(p.productId, p.userId, p.categoryId, p.name, p.status,
+		        p.price, p.discountPrice, p.averageRating, p.reviewCount, p.salesCount, p.addedAt)
+		    FROM Product p WHERE p.productId = :productId
+		""")
+		Optional<ProductSearchRow> findSearchRow(@Param("productId") Long productId);
+
+	// 전체 상품 순차 조회 (관리자 내보내기용, 트랜잭션 안에서 사용 후 닫아야 함)
+	// fetch size Integer.MIN_VALUE: MySQL 드라이버가 이 조회만 한 행씩 스트리밍 (전체 결과를 메모리에 올리지 않음)
+	// 스트림을 닫기 전에는 같은 연결로 다른 SQL 을 실행할 수 없음
+	@QueryHints({
+			@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+			@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+	@Query("SELECT p FROM Product p ORDER BY p.productId")
+	Stream<Product> streamAll();
+
+	@Query("""
+		    SELECT new org.ezon.msa.dto.ProductSearchRow(p.productId, p.userId, p.categoryId, p.name, p.status,
+		        p.price, p.discountPrice, p.averageRating, p.reviewCount, p.salesCount, p.addedAt)
+		    FROM Product p WHERE p.productId IN :productIds
+		""")
+		List<ProductSearchRow> findSearchRows(@Param("productIds") Collection<Long> productIds);
+
+	// 재고 행 잠금 조회 (진행 중인 재고 변경이 끝날 때까지 대기)
+	@Query(value = "SELECT stock_quantity FROM product WHERE product_id = :productId FOR UPDATE", nativeQuery = true)
+	Integer lockStock(@Param("productId") Long productId);
+
+	// 리뷰 요약 (저장된 집계 컬럼만 읽음)
+	@Query("""
+		    SELECT new org.ezon.msa.dto.ReviewSummary(p.productId, p.reviewCount, p.ratingSum)
+		    FROM Product p WHERE p.productId IN :productIds
+		""")
+		List<ReviewSummary> findReviewSummaries(@Param("productIds") Collection<Long> productIds);
+
+	// 장바구니/주문용 요약 조회
 	@Query("""
-		    SELECT p FROM Product p JOIN Category c ON p.categoryId = c.categoryId
+		    SELECT new org.ezon.msa.dto.CartProductView(p.productId, p.name, p.price, p.discountPrice, p.image,
+		        p.shippingFee)
+		    FROM Product p WHERE p.productId IN :productIds
+		""")
+		List<CartProductView> findCartViews(@Param("productIds") Collection<Long> productIds);
+	
+	@Query(LIST_ROW_SELECT + """
+		    JOIN Category c ON p.categoryId = c.categoryId
 		    WHERE (LOWER(p.name) LIKE LOWER(CONCAT('%', :keyword, '%')) 
 		       OR LOWER(c.name) LIKE LOWER(CONCAT('%', :keyword, '%')))
 		    AND p.status = :status
 		""")
-		List<Product> searchByKeywordProductOrCategory(String keyword, ProductStatus status);
+		List<ProductListRow> searchByKeywordProductOrCategory(String keyword, ProductStatus status);
 	
-	@Query("""
-		    SELECT p FROM Product p
+	@Query(LIST_ROW_SELECT + """
 		    WHERE (:keyword IS NULL OR LOWER(p.name) LIKE LOWER(CONCAT('%', :keyword, '%')))
 		      AND (:categoryId IS NULL OR p.categoryId = :categoryId)
 		      AND (:minPrice IS NULL OR p.price >= :minPrice)
@@ -43,7 +138,7 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
 		      AND (:minRating IS NULL OR p.averageRating >= :minRating)
 		      AND p.status = :status
 		""")
-		List<Product> searchProductsAll(
+		List<ProductListRow> searchProductsAll(
 		    @Param("keyword") String keyword,
 		    @Param("categoryId") Long categoryId,
 		    @Param("minPrice") Integer minPrice,
@@ -52,10 +147,72 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
 		    @Param("status") ProductStatus status
 		);
 
-	List<Product> findByCategoryIdAndNameContainingIgnoreCaseAndStatus(Long categoryId, String keyword,
-			ProductStatus approved);
+	@Query(LIST_ROW_SELECT + """
+		    WHERE p.status = :status AND LOWER(p.name) LIKE LOWER(CONCAT('%', :keyword, '%'))
+		      AND p.categoryId IN (
+		          SELECT d.categoryId FROM Category d, Category root
+		          WHERE root.categoryId = :categoryId
+		            AND (d.categoryId = root.categoryId OR d.lft BETWEEN root.lft AND root.rgt))
+		""")
+		List<ProductListRow> findInCategoryTreeAndNameContainingAndStatus(@Param("categoryId") Long categoryId,
+				@Param("keyword") String keyword, @Param("status") ProductStatus status);
+
+	List<ProductListRow> findByUserIdAndCategoryIdAndNameContainingIgnoreCase(Long userId, Long categoryId, String keyword);
+
+	List<ProductListRow> findByUserIdAndCategoryId(Long userId, Long categoryId);
 
-	List<Product> findByUserIdAndCategoryIdAndNameContainingIgnoreCase(Long userId, Long categoryId, String keyword);
+	// 승인 상태만 변경 (재고 등 다른 컬럼은 건드리지 않음)
+	@Modifying
+	@Transactional
+	@Query("UPDATE Product p SET p.status = :status, p.isApproved = :approved WHERE p.productId = :productId")
+	int updateApproval(@Param("productId") Long productId, @Param("status") ProductStatus status,
+			@Param("approved") boolean approved);
+
+	// 리뷰 집계 증감. 평균은 증감 전 값으로 계산되도록 가장 먼저 갱신
+	@Modifying
+	@Query("""
+		    UPDATE Product p SET
+		      p.averageRating = CASE WHEN p.reviewCount + :countDelta > 0
+		          THEN (p.ratingSum + :sumDelta) * 1.0 / (p.reviewCount + :countDelta)
+		          ELSE 0.0 END,
+		      p.reviewCount = p.reviewCount + :countDelta,
+		      p.ratingSum = p.ratingSum + :sumDelta,
+		      p.rating1Count = p.rating1Count + :d1,
+		      p.rating2Count = p.rating2Count + :d2,
+		      p.rating3Count = p.rating3Count + :d3,
+		      p.rating4Count = p.rating4Count + :d4,
+		      p.rating5Count = p.rating5Count + :d5
+		    WHERE p.productId = :productId
+		""")
+		int applyReviewDelta(
+		    @Param("productId") Long productId,
+		    @Param("countDelta") int countDelta,
+		    @Param("sumDelta") int sumDelta,
+		    @Param("d1") int d1,
+		    @Param("d2") int d2,
+		    @Param("d3") int d3,
+		    @Param("d4") int d4,
+		    @Param("d5") int d5
+		);
 
-	List<Product> findByUserIdAndCategoryId(Long userId, Long categoryId);
+	// review 테이블 기준 전체 재계산
+	@Modifying
+	@Query(value = """
+		    UPDATE product p
+		    LEFT JOIN (
+		        SELECT product_id, COUNT(*) AS cnt, SUM(rating) AS total,
+		               SUM(rating = 1) AS r1, SUM(rating = 2) AS r2, SUM(rating = 3) AS r3,
+		               SUM(rating = 4) AS r4, SUM(rating = 5) AS r5
+		        FROM review GROUP BY product_id
+		    ) r ON r.product_id = p.product_id
+		    SET p.average_rating = COALESCE(r.total / r.cnt, 0),
+		        p.review_count = COALESCE(r.cnt, 0),
+		        p.rating_sum = COALESCE(r.total, 0),
+		        p.rating1_count = COALESCE(r.r1, 0),
+		        p.rating2_count = COALESCE(r.r2, 0),
+		        p.rating3_count = COALESCE(r.r3, 0),
+		        p.rating4_count = COALESCE(r.r4, 0),
+		        p.rating5_count = COALESCE(r.r5, 0)
+		""", nativeQuery = true)
+		int rebuildReviewStats();
 }
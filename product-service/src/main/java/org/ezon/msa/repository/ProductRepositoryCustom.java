@@ -0,0 +1,30 @@
+package org.ezon.msa.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+import org.ezon.msa.dto.EngagementDelta;
+import org.ezon.msa.dto.ProductCursor;
+import org.ezon.msa.dto.ProductListRow;
+import org.ezon.msa.dto.ProductSearchCondition;
+import org.ezon.msa.enums.ProductSort;
+
+public interface ProductRepositoryCustom {
+
+	// 조건 검색 + DB 정렬. cursor 가 있으면 그 다음 행부터, limit <= 0 이면 전체
+	List<ProductListRow> searchSorted(ProductSearchCondition condition, ProductSort sort, ProductCursor cursor, int limit);
+
+	// 판매중 상품 재고 일괄 차감 (재고가 충분한 행만, 0 이 되면 SOLD_OUT, 플래시 세일 상품 제외)
+	// productId 오름차순으로 실행해 동시 주문 간 잠금 순서를 맞춤. 반환값은 상품별 변경 행 수 (0 이면 실패)
+	Map<Long, Integer> decrementStock(SortedMap<Long, Integer> quantities);
+
+	// 재고 일괄 복구 (SOLD_OUT 이었다면 APPROVED 로)
+	void incrementStock(SortedMap<Long, Integer> quantities);
+
+	// 플래시 세일 카운터 변경분 반영 (delta 는 음수/양수, 0 이하가 되면 SOLD_OUT, 다시 생기면 APPROVED)
+	void applyStockDeltas(SortedMap<Long, Integer> deltas);
+
+	// 조회수/판매수 증가분 일괄 반영. 반환값은 상품별 변경 행 수 (0 이면 없는 상품)
+	Map<Long, Integer> addEngagement(SortedMap<Long, EngagementDelta> deltas);
+}
@@ -0,0 +1,195 @@
+package org.ezon.msa.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+import org.ezon.msa.dto.EngagementDelta;
+import org.ezon.msa.dto.ProductCursor;
+import org.ezon.msa.dto.ProductListRow;
+import org.ezon.msa.dto.ProductSearchCondition;
+import org.ezon.msa.enums.ProductSort;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+public class ProductRepositoryImpl implements ProductRepositoryCustom {
+
+	@PersistenceContext
+	private EntityManager em;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	// MySQL 은 SET 을 왼쪽부터 적용하므로 status 를 stock_quantity 보다 먼저 (차감 전 재고 기준)
+	private static final String DECREMENT_STOCK = """
+			UPDATE product
+			SET status = CASE WHEN stock_quantity - ? <= 0 THEN 'SOLD_OUT' ELSE status END,
+			    stock_quantity = stock_quantity - ?
+			WHERE product_id = ? AND status = 'APPROVED' AND stock_quantity >= ?
+			  AND NOT EXISTS (SELECT 1 FROM flash_sale f WHERE f.product_id = product.product_id)
+			""";
+
+	private static final String INCREMENT_STOCK = """
+			UPDATE product
+			SET status = CASE WHEN status = 'SOLD_OUT' AND stock_quantity + ? > 0 THEN 'APPROVED' ELSE status END,
+			    stock_quantity = stock_quantity + ?
+			WHERE product_id = ?
+			""";
+
+	private static final String APPLY_STOCK_DELTA = """
+			UPDATE product
+			SET status = CASE WHEN status = 'APPROVED' AND stock_quantity + ? <= 0 THEN 'SOLD_OUT'
+			                  WHEN status = 'SOLD_OUT' AND stock_quantity + ? > 0 THEN 'APPROVED'
+			                  ELSE status END,
+			    stock_quantity = stock_quantity + ?
+			WHERE product_id = ?
+			""";
+
+	private static final String ADD_ENGAGEMENT = """
+			UPDATE product
+			SET view_count = view_count + ?,
+			    sales_count = sales_count + ?
+			WHERE product_id = ?
+			""";
+
+	@Override
+	public Map<Long, Integer> decrementStock(SortedMap<Long, Integer> quantities) {
+		List<Long> ids = new ArrayList<>(quantities.keySet());
+		int[] counts = jdbcTemplate.batchUpdate(DECREMENT_STOCK, new BatchPreparedStatementSetter() {
+			@Override
+			public void setValues(PreparedStatement ps, int i) throws SQLException {
+				int quantity = quantities.get(ids.get(i));
+				ps.setInt(1, quantity);
+				ps.setInt(2, quantity);
+				ps.setLong(3, ids.get(i));
+				ps.setInt(4, quantity);
+			}
+
+			@Override
+			public int getBatchSize() {
+				return ids.size();
+			}
+		});
+		Map<Long, Integer> result = new LinkedHashMap<>();
+		for (int i = 0; i < ids.size(); i++)
+			result.put(ids.get(i), counts[i]);
+		return result;
+	}
+
+	@Override
+	public void incrementStock(SortedMap<Long, Integer> quantities) {
+		List<Long> ids = new ArrayList<>(quantities.keySet());
+		jdbcTemplate.batchUpdate(INCREMENT_STOCK, new BatchPreparedStatementSetter() {
+			@Override
+			public void setValues(PreparedStatement ps, int i) throws SQLException {
+				int quantity = quantities.get(ids.get(i));
+				ps.setInt(1, quantity);
+				ps.setInt(2, quantity);
+				ps.setLong(3, ids.get(i));
+			}
+
+			@Override
+			public int getBatchSize() {
+				return ids.size();
+			}
+		});
+	}
+
+	@Override
+	public void applyStockDeltas(SortedMap<Long, Integer> deltas) {
+		List<Long> ids = new ArrayList<>(deltas.keySet());
+		jdbcTemplate.batchUpdate(APPLY_STOCK_DELTA, new BatchPreparedStatementSetter() {
+			@Override
+			public void setValues(PreparedStatement ps, int i) throws SQLException {
+				int delta = deltas.get(ids.get(i));
+				ps.setInt(1, delta);
+				ps.setInt(2, delta);
+				ps.setInt(3, delta);
+				ps.setLong(4, ids.get(i));
+			}
+
+			@Override
+			public int getBatchSize() {
+				return ids.size();
+			}
+		});
+	}
+
+	@Override
+	public Map<Long, Integer> addEngagement(SortedMap<Long, EngagementDelta> deltas) {
+		List<Long> ids = new ArrayList<>(deltas.keySet());
+		int[] counts = jdbcTemplate.batchUpdate(ADD_ENGAGEMENT, new BatchPreparedStatementSetter() {
+			@Override
+			public void setValues(PreparedStatement ps, int i) throws SQLException {
+				EngagementDelta delta = deltas.get(ids.get(i));
+				ps.setLong(1, delta.views());
+				ps.setLong(2, delta.sales());
+				ps.setLong(3, ids.get(i));
+			}
+
+			@Override
+			public int getBatchSize() {
+				return ids.size();
+			}
+		});
+		Map<Long, Integer> result = new LinkedHashMap<>();
+		for (int i = 0; i < ids.size(); i++)
+			result.put(ids.get(i), counts[i]);
+		return result;
+	}
+
+	@Override
+	public List<ProductListRow> searchSorted(ProductSearchCondition condition, ProductSort sort, ProductCursor cursor,
+			int limit) {
+		StringBuilder jpql = new StringBuilder(ProductRepository.LIST_ROW_SELECT).append("WHERE p.status = :status");
+		Map<String, Object> params = new HashMap<>();
+		params.put("status", condition.status());
+
+		if (condition.keyword() != null && !condition.keyword().isBlank()) {
+			jpql.append(" AND LOWER(p.name) LIKE LOWER(CONCAT('%', :keyword, '%'))");
+			params.put("keyword", condition.keyword());
+		}
+		if (condition.categoryId() != null) {
+			// 하위 카테고리 포함 (카테고리 lft 범위)
+			jpql.append(" AND p.categoryId IN (SELECT d.categoryId FROM Category d, Category root")
+					.append(" WHERE root.categoryId = :categoryId")
+					.append(" AND (d.categoryId = root.categoryId OR d.lft BETWEEN root.lft AND root.rgt))");
+			params.put("categoryId", condition.categoryId());
+		}
+		if (condition.minPrice() != null) {
+			jpql.append(" AND p.price >= :minPrice");
+			params.put("minPrice", condition.minPrice());
+		}
+		if (condition.maxPrice() != null) {
+			jpql.append(" AND p.price <= :maxPrice");
+			params.put("maxPrice", condition.maxPrice());
+		}
+		if (condition.minRating() != null) {
+			jpql.append(" AND p.averageRating >= :minRating");
+			params.put("minRating", condition.minRating());
+		}
+		if (cursor != null) {
+			jpql.append(" AND ").append(sort.seekPredicate());
+			if (sort != ProductSort.DEFAULT)
+				params.put("cursorKey", cursor.key());
+			params.put("cursorId", cursor.productId());
+		}
+		jpql.append(" ORDER BY ").append(sort.orderBy());
+
+		TypedQuery<ProductListRow> query = em.createQuery(jpql.toString(), ProductListRow.class);
+		params.forEach(query::setParameter);
+		if (limit > 0)
+			query.setMaxResults(limit);
+		return query.getResultList();
+	}
+}
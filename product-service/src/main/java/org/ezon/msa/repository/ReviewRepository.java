@@ -7,7 +7,7 @@ import org.ezon.msa.entity.Review;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
-public interface ReviewRepository extends JpaRepository<Review, Long>{
+public interface ReviewRepository extends JpaRepository<Review, Long>, ReviewRepositoryCustom {
     //상품별 리뷰 조회(상품상세페이지 > 리뷰)
 	Optional<List<Review>> findByProductId(Long productId);
 	//사용자별 리뷰조회 (마이페이지 > 내가 쓴 리뷰)
@@ -0,0 +1,13 @@
+package org.ezon.msa.repository;
+
+import java.util.List;
+
+import org.ezon.msa.dto.ReviewCursor;
+import org.ezon.msa.entity.Review;
+import org.ezon.msa.enums.ReviewSort;
+
+public interface ReviewRepositoryCustom {
+
+	// 상품 리뷰를 정렬 순서대로 limit 건. cursor 가 있으면 그 다음 행부터
+	List<Review> scrollByProduct(Long productId, ReviewSort sort, ReviewCursor cursor, int limit);
+}
@@ -0,0 +1,34 @@
+package org.ezon.msa.repository;
+
+import java.util.List;
+
+import org.ezon.msa.dto.ReviewCursor;
+import org.ezon.msa.entity.Review;
+import org.ezon.msa.enums.ReviewSort;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
+
+	@PersistenceContext
+	private EntityManager em;
+
+	@Override
+	public List<Review> scrollByProduct(Long productId, ReviewSort sort, ReviewCursor cursor, int limit) {
+		StringBuilder jpql = new StringBuilder("SELECT r FROM Review r WHERE r.productId = :productId");
+		if (cursor != null)
+			jpql.append(" AND ").append(sort.seekPredicate());
+		jpql.append(" ORDER BY ").append(sort.orderBy());
+
+		TypedQuery<Review> query = em.createQuery(jpql.toString(), Review.class)
+				.setParameter("productId", productId)
+				.setMaxResults(limit);
+		if (cursor != null) {
+			query.setParameter("cursorKey", cursor.key());
+			query.setParameter("cursorId", cursor.reviewId());
+		}
+		return query.getResultList();
+	}
+}
@@ -0,0 +1,46 @@
+package org.ezon.msa.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.ezon.msa.entity.StockReservation;
+import org.ezon.msa.enums.ReservationStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+
+	List<StockReservation> findByReservationKey(String reservationKey);
+
+	// 상태 전이. 바뀐 줄 수가 0 이면 이미 다른 요청이 처리한 예약
+	@Modifying
+	@Query("""
+		    UPDATE StockReservation r SET r.status = :to
+		    WHERE r.reservationKey = :reservationKey AND r.status = :from
+		""")
+	int transition(@Param("reservationKey") String reservationKey, @Param("from") ReservationStatus from,
+			@Param("to") ReservationStatus to);
+
+	// 만료 전인 예약만 상태 전이
+	@Modifying
+	@Query("""
+		    UPDATE StockReservation r SET r.status = :to
+		    WHERE r.reservationKey = :reservationKey AND r.status = :from AND r.expiresAt >= :now
+		""")
+	int transitionIfNotExpired(@Param("reservationKey") String reservationKey, @Param("from") ReservationStatus from,
+			@Param("to") ReservationStatus to, @Param("now") LocalDateTime now);
+
+	@Query("SELECT DISTINCT r.reservationKey FROM StockReservation r WHERE r.reservationKey IN :reservationKeys")
+	List<String> findExistingKeys(@Param("reservationKeys") Collection<String> reservationKeys);
+
+	@Query("""
+		    SELECT DISTINCT r.reservationKey FROM StockReservation r
+		    WHERE r.status = :status AND r.expiresAt < :now
+		""")
+	List<String> findExpiredKeys(@Param("status") ReservationStatus status, @Param("now") LocalDateTime now,
+			Pageable pageable);
+}
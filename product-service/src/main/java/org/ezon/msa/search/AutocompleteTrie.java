@@ -0,0 +1,151 @@
+package org.ezon.msa.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// 자동완성용 불변 압축 트라이 (radix tree)
+// - 노드마다 인기순 상위 MAX_RESULTS 개 상품명을 미리 계산
+// - 조회는 접두어를 따라 내려가 해당 노드 목록을 그대로 반환 (할당 없음)
+// - chosung=true 로 만들면 키를 초성으로 바꿔 저장하고, 조회 문자도 초성으로 바꿔 비교
+final class AutocompleteTrie {
+
+	static final int MAX_RESULTS = 10;
+
+	// 판매량 → 평점 → productId 순
+	private static final Comparator<Entry> RANK = Comparator.comparingInt(Entry::salesCount).reversed()
+			.thenComparing(Comparator.comparingDouble(Entry::rating).reversed())
+			.thenComparingLong(Entry::productId);
+
+	record Entry(long productId, String name, int salesCount, double rating) {
+	}
+
+	private static final class Node {
+		private final char[] edge;
+		private char[] firstChars = new char[0];
+		private Node[] children = new Node[0];
+		private List<String> top = List.of();
+		private Entry[] topEntries = new Entry[0];
+
+		private Node(char[] edge) {
+			this.edge = edge;
+		}
+	}
+
+	private final Node root;
+	private final boolean chosung;
+
+	private AutocompleteTrie(Node root, boolean chosung) {
+		this.root = root;
+		this.chosung = chosung;
+	}
+
+	static AutocompleteTrie build(List<Entry> entries, boolean chosung) {
+		List<Keyed> keyed = new ArrayList<>(entries.size());
+		for (Entry entry : entries) {
+			if (entry.name() != null && !entry.name().isEmpty())
+				keyed.add(new Keyed(key(entry.name(), chosung), entry));
+		}
+		keyed.sort(Comparator.comparing(Keyed::key));
+		Node root = build(keyed, 0, keyed.size(), 0, new char[0]);
+		root.topEntries = null;
+		return new AutocompleteTrie(root, chosung);
+	}
+
+	// 접두어로 시작하는 상위 상품명 (없으면 빈 목록)
+	List<String> lookup(CharSequence prefix) {
+		Node node = root;
+		int len = prefix.length();
+		int i = 0;
+		while (i < len) {
+			int idx = Arrays.binarySearch(node.firstChars, map(prefix.charAt(i), chosung));
+			if (idx < 0)
+				return List.of();
+			Node child = node.children[idx];
+			char[] edge = child.edge;
+			for (int j = 0; j < edge.length; j++) {
+				if (i + j == len)
+					return child.top;
+				if (edge[j] != map(prefix.charAt(i + j), chosung))
+					return List.of();
+			}
+			i += edge.length;
+			node = child;
+		}
+		return node.top;
+	}
+
+	private record Keyed(String key, Entry entry) {
+	}
+
+	private static char map(char c, boolean chosung) {
+		char lower = Character.toLowerCase(c);
+		return chosung ? Chosung.of(lower) : lower;
+	}
+
+	private static String key(String name, boolean chosung) {
+		char[] chars = new char[name.length()];
+		for (int i = 0; i < chars.length; i++)
+			chars[i] = map(name.charAt(i), chosung);
+		return new String(chars);
+	}
+
+	// [lo, hi) 의 키는 모두 depth 까지 같은 접두어를 가짐
+	private static Node build(List<Keyed> sorted, int lo, int hi, int depth, char[] edge) {
+		Node node = new Node(edge);
+
+		// 이 노드에서 끝나는 키 (정렬상 앞쪽에 모여 있음)
+		int i = lo;
+		while (i < hi && sorted.get(i).key().length() == depth)
+			i++;
+		List<Entry> candidates = new ArrayList<>();
+		for (int t = lo; t < i; t++)
+			candidates.add(sorted.get(t).entry());
+
+		List<Character> firstChars = new ArrayList<>();
+		List<Node> children = new ArrayList<>();
+		int j = i;
+		while (j < hi) {
+			char c = sorted.get(j).key().charAt(depth);
+			int k = j;
+			while (k < hi && sorted.get(k).key().charAt(depth) == c)
+				k++;
+			// 그룹 공통 접두어만큼 간선 압축
+			String first = sorted.get(j).key();
+			String last = sorted.get(k - 1).key();
+			int end = depth + 1;
+			while (end < first.length() && end < last.length() && first.charAt(end) == last.charAt(end))
+				end++;
+			Node child = build(sorted, j, k, end, first.substring(depth, end).toCharArray());
+			firstChars.add(c);
+			children.add(child);
+			candidates.addAll(Arrays.asList(child.topEntries));
+			j = k;
+		}
+
+		node.firstChars = new char[firstChars.size()];
+		for (int f = 0; f < node.firstChars.length; f++)
+			node.firstChars[f] = firstChars.get(f);
+		node.children = children.toArray(new Node[0]);
+
+		// 같은 상품명은 순위가 높은 것 하나만
+		candidates.sort(RANK);
+		List<Entry> top = new ArrayList<>(MAX_RESULTS);
+		Set<String> seen = new HashSet<>();
+		for (Entry entry : candidates) {
+			if (seen.add(entry.name()) && top.size() < MAX_RESULTS)
+				top.add(entry);
+			if (top.size() == MAX_RESULTS)
+				break;
+		}
+		node.topEntries = top.toArray(new Entry[0]);
+		node.top = top.stream().map(Entry::name).toList();
+		// 하위 노드의 후보 목록은 빌드 중에만 필요
+		for (Node child : node.children)
+			child.topEntries = null;
+		return node;
+	}
+}
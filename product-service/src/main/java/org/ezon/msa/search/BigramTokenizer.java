@@ -0,0 +1,51 @@
+package org.ezon.msa.search;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+// 문자 단위 n-gram 토크나이저 (한글 포함)
+// - 토큰은 int 코드: 1글자 = 문자 코드, 2글자 = (앞 글자 << 16) | 뒷 글자
+// - 색인 시 1글자/2글자 모두, 검색 시 2글자 이상이면 2글자 토큰만 사용
+final class BigramTokenizer {
+
+	private BigramTokenizer() {
+	}
+
+	static String normalize(String text) {
+		return text == null ? "" : text.toLowerCase(Locale.ROOT);
+	}
+
+	// 색인용 토큰 (정규화된 문자열 기준)
+	static int[] indexTokens(String normalized) {
+		int n = normalized.length();
+		if (n == 0)
+			return new int[0];
+		int[] tokens = new int[n * 2 - 1];
+		int count = 0;
+		for (int i = 0; i < n; i++) {
+			char c = normalized.charAt(i);
+			if (c != 0)
+				tokens[count++] = c;
+			if (i + 1 < n && c != 0)
+				tokens[count++] = bigram(c, normalized.charAt(i + 1));
+		}
+		return count == tokens.length ? tokens : Arrays.copyOf(tokens, count);
+	}
+
+	// 검색용 토큰 (정규화된 문자열 기준)
+	static int[] queryTokens(String normalized) {
+		int n = normalized.length();
+		if (n == 0)
+			return new int[0];
+		if (n == 1)
+			return new int[] { normalized.charAt(0) };
+		int[] tokens = new int[n - 1];
+		for (int i = 0; i + 1 < n; i++)
+			tokens[i] = bigram(normalized.charAt(i), normalized.charAt(i + 1));
+		return tokens;
+	}
+
+	private static int bigram(char first, char second) {
+		return (first << 16) | second;
+	}
+}
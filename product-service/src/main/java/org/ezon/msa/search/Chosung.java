@@ -0,0 +1,31 @@
+package org.ezon.msa.search;
+
+// 한글 초성 처리 ("스마트" → "ㅅㅁㅌ")
+final class Chosung {
+
+	private static final char[] INITIALS = { 'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ',
+			'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ' };
+	private static final char SYLLABLE_FIRST = 0xAC00;
+	private static final char SYLLABLE_LAST = 0xD7A3;
+	private static final int SYLLABLES_PER_INITIAL = 21 * 28;
+
+	private Chosung() {
+	}
+
+	// 완성형 한글 음절이면 초성 자모, 그 외 문자는 그대로
+	static char of(char c) {
+		if (c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST)
+			return INITIALS[(c - SYLLABLE_FIRST) / SYLLABLES_PER_INITIAL];
+		return c;
+	}
+
+	// 호환용 자음 자모(ㄱ~ㅎ)가 하나라도 있으면 초성 검색으로 판단
+	static boolean hasInitial(CharSequence text) {
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c >= 'ㄱ' && c <= 'ㅎ')
+				return true;
+		}
+		return false;
+	}
+}
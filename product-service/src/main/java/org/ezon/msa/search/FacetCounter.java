@@ -0,0 +1,70 @@
+package org.ezon.msa.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.ezon.msa.dto.ProductFacets;
+import org.ezon.msa.service.CategorySnapshot;
+
+// 패싯 카운트 누적 (카테고리/가격 구간/평점 구간별 int 배열)
+// 병렬 구간마다 하나씩 만들어 merge 로 합침
+final class FacetCounter {
+
+	private final CategorySnapshot categories;
+	private final int[] priceBounds;
+	private final int[] categoryCounts;
+	private final int[] priceCounts;
+	private final int[] ratingCounts = new int[6];
+	private int total;
+
+	FacetCounter(CategorySnapshot categories, int[] priceBounds) {
+		this.categories = categories;
+		this.priceBounds = priceBounds;
+		this.categoryCounts = new int[categories.size()];
+		this.priceCounts = new int[priceBounds.length + 1];
+	}
+
+	FacetCounter newEmpty() {
+		return new FacetCounter(categories, priceBounds);
+	}
+
+	void add(long categoryId, int price, double averageRating) {
+		total++;
+		int category = categories.indexOf(categoryId);
+		if (category >= 0)
+			categoryCounts[category]++;
+		int bucket = 0;
+		while (bucket < priceBounds.length && price >= priceBounds[bucket])
+			bucket++;
+		priceCounts[bucket]++;
+		ratingCounts[Math.max(0, Math.min(5, (int) averageRating))]++;
+	}
+
+	void merge(FacetCounter other) {
+		total += other.total;
+		for (int i = 0; i < categoryCounts.length; i++)
+			categoryCounts[i] += other.categoryCounts[i];
+		for (int i = 0; i < priceCounts.length; i++)
+			priceCounts[i] += other.priceCounts[i];
+		for (int i = 0; i < ratingCounts.length; i++)
+			ratingCounts[i] += other.ratingCounts[i];
+	}
+
+	ProductFacets toFacets() {
+		List<ProductFacets.CategoryCount> byCategory = new ArrayList<>();
+		for (int i = 0; i < categoryCounts.length; i++) {
+			if (categoryCounts[i] > 0)
+				byCategory.add(new ProductFacets.CategoryCount(categories.idAt(i), categories.nameAt(i),
+						categoryCounts[i]));
+		}
+		List<ProductFacets.PriceRangeCount> byPrice = new ArrayList<>(priceCounts.length);
+		for (int i = 0; i < priceCounts.length; i++) {
+			byPrice.add(new ProductFacets.PriceRangeCount(i == 0 ? 0 : priceBounds[i - 1],
+					i < priceBounds.length ? priceBounds[i] : null, priceCounts[i]));
+		}
+		List<ProductFacets.RatingCount> byRating = new ArrayList<>(ratingCounts.length);
+		for (int i = 0; i < ratingCounts.length; i++)
+			byRating.add(new ProductFacets.RatingCount(i, ratingCounts[i]));
+		return new ProductFacets(total, byCategory, byPrice, byRating);
+	}
+}
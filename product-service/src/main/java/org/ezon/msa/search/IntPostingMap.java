@@ -0,0 +1,66 @@
+package org.ezon.msa.search;
+
+// int 키 → PostingList 오픈 어드레싱 해시맵 (키 0 은 빈 칸 표시로 사용)
+final class IntPostingMap {
+
+	private int[] keys = new int[64];
+	private PostingList[] values = new PostingList[64];
+	private int count;
+
+	PostingList get(int key) {
+		int mask = keys.length - 1;
+		for (int i = mix(key) & mask;; i = (i + 1) & mask) {
+			int k = keys[i];
+			if (k == key)
+				return values[i];
+			if (k == 0)
+				return null;
+		}
+	}
+
+	PostingList getOrCreate(int key) {
+		if (key == 0)
+			throw new IllegalArgumentException("key must not be 0");
+		int mask = keys.length - 1;
+		int i = mix(key) & mask;
+		for (;; i = (i + 1) & mask) {
+			int k = keys[i];
+			if (k == key)
+				return values[i];
+			if (k == 0)
+				break;
+		}
+		PostingList list = new PostingList();
+		keys[i] = key;
+		values[i] = list;
+		if (++count * 2 > keys.length)
+			resize();
+		return list;
+	}
+
+	int size() {
+		return count;
+	}
+
+	private void resize() {
+		int[] oldKeys = keys;
+		PostingList[] oldValues = values;
+		keys = new int[oldKeys.length * 2];
+		values = new PostingList[oldKeys.length * 2];
+		int mask = keys.length - 1;
+		for (int j = 0; j < oldKeys.length; j++) {
+			if (oldKeys[j] == 0)
+				continue;
+			int i = mix(oldKeys[j]) & mask;
+			while (keys[i] != 0)
+				i = (i + 1) & mask;
+			keys[i] = oldKeys[j];
+			values[i] = oldValues[j];
+		}
+	}
+
+	private static int mix(int key) {
+		int h = key * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+}
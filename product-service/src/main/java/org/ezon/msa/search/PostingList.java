@@ -0,0 +1,92 @@
+package org.ezon.msa.search;
+
+import java.util.Arrays;
+
+// 정렬된 양의 정수 id 목록을 delta + varint 로 압축 저장
+// 새 id 가 마지막 id 보다 크면 끝에 덧붙이고, 그 외에는 풀어서 다시 인코딩
+final class PostingList {
+
+	private static final byte[] EMPTY = new byte[0];
+
+	private byte[] data = EMPTY;
+	private int length;
+	private int size;
+	private int last;
+
+	int size() {
+		return size;
+	}
+
+	void add(int id) {
+		if (id <= 0)
+			throw new IllegalArgumentException("id must be positive: " + id);
+		if (id > last) {
+			append(id - last);
+			last = id;
+			size++;
+			return;
+		}
+		int[] ids = toArray();
+		int pos = Arrays.binarySearch(ids, id);
+		if (pos >= 0)
+			return;
+		int insert = -pos - 1;
+		int[] next = new int[ids.length + 1];
+		System.arraycopy(ids, 0, next, 0, insert);
+		next[insert] = id;
+		System.arraycopy(ids, insert, next, insert + 1, ids.length - insert);
+		encode(next, next.length);
+	}
+
+	void remove(int id) {
+		if (id > last || size == 0)
+			return;
+		int[] ids = toArray();
+		int pos = Arrays.binarySearch(ids, id);
+		if (pos < 0)
+			return;
+		System.arraycopy(ids, pos + 1, ids, pos, ids.length - pos - 1);
+		encode(ids, ids.length - 1);
+	}
+
+	int[] toArray() {
+		int[] ids = new int[size];
+		int value = 0;
+		int pos = 0;
+		for (int i = 0; i < size; i++) {
+			int delta = 0;
+			int shift = 0;
+			byte b;
+			do {
+				b = data[pos++];
+				delta |= (b & 0x7F) << shift;
+				shift += 7;
+			} while (b < 0);
+			value += delta;
+			ids[i] = value;
+		}
+		return ids;
+	}
+
+	private void encode(int[] ids, int count) {
+		data = count == 0 ? EMPTY : new byte[count * 2];
+		length = 0;
+		size = 0;
+		last = 0;
+		for (int i = 0; i < count; i++) {
+			append(ids[i] - last);
+			last = ids[i];
+			size++;
+		}
+	}
+
+	private void append(int delta) {
+		if (length + 5 > data.length)
+			data = Arrays.copyOf(data, Math.max(8, data.length * 2));
+		while ((delta & ~0x7F) != 0) {
+			data[length++] = (byte) ((delta & 0x7F) | 0x80);
+			delta >>>= 7;
+		}
+		data[length++] = (byte) delta;
+	}
+}
@@ -0,0 +1,107 @@
+package org.ezon.msa.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.ezon.msa.dto.ProductSearchRow;
+import org.ezon.msa.enums.ProductStatus;
+import org.ezon.msa.event.ProductChangedEvent;
+import org.ezon.msa.event.ProductSalesChangedEvent;
+import org.ezon.msa.repository.ProductRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 상품명 자동완성 (승인 상품만, 판매량/평점 순 상위 10개)
+// 상품 변경은 즉시 목록에 반영하고, 트라이는 주기적으로 다시 만들어 통째로 교체
+// - 상품 추가/제외, 이름 변경: rebuildMs 주기로 재생성
+// - 판매량/평점만 바뀐 경우(리뷰, 카운터 반영): 순위만 달라지므로 rankRefreshMs 주기로 재생성
+@Component
+public class ProductAutocomplete {
+
+	private final ProductRepository productRepository;
+
+	private final Map<Long, ProductSearchRow> approved = new ConcurrentHashMap<>();
+	private final AtomicBoolean dirty = new AtomicBoolean();
+	private final AtomicBoolean rankChanged = new AtomicBoolean();
+	private volatile Tries tries;
+
+	private record Tries(AutocompleteTrie names, AutocompleteTrie initials) {
+	}
+
+	public ProductAutocomplete(ProductRepository productRepository) {
+		this.productRepository = productRepository;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void load() {
+		approved.clear();
+		for (ProductSearchRow row : productRepository.findAllSearchRows()) {
+			if (row.status() == ProductStatus.APPROVED)
+				approved.put(row.productId(), row);
+		}
+		rebuild();
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProductChanged(ProductChangedEvent event) {
+		boolean listed = !event.isRemoved() && event.row().status() == ProductStatus.APPROVED;
+		ProductSearchRow previous = listed ? approved.put(event.productId(), event.row())
+				: approved.remove(event.productId());
+		// 추가/제외
+		if (listed != (previous != null))
+			dirty.set(true);
+		else if (listed && !previous.name().equals(event.row().name()))
+			dirty.set(true);
+		else if (listed && (previous.salesCount() != event.row().salesCount()
+				|| !Objects.equals(previous.averageRating(), event.row().averageRating())))
+			rankChanged.set(true);
+	}
+
+	// 판매수 카운터 반영: 목록의 판매수만 바꾸고 순위는 다음 주기에
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onSalesChanged(ProductSalesChangedEvent event) {
+		event.salesCounts().forEach((productId, salesCount) -> {
+			ProductSearchRow previous = approved.get(productId);
+			if (previous != null && previous.salesCount() != salesCount
+					&& approved.replace(productId, previous, previous.withSalesCount(salesCount)))
+				rankChanged.set(true);
+		});
+	}
+
+	@Scheduled(fixedDelayString = "${product.autocomplete.rebuildMs:5000}")
+	public void rebuildIfDirty() {
+		if (tries != null && dirty.compareAndSet(true, false))
+			rebuild();
+	}
+
+	@Scheduled(fixedDelayString = "${product.autocomplete.rankRefreshMs:300000}")
+	public void rebuildIfRankChanged() {
+		if (tries != null && rankChanged.get())
+			rebuild();
+	}
+
+	private synchronized void rebuild() {
+		rankChanged.set(false);
+		List<AutocompleteTrie.Entry> entries = new ArrayList<>(approved.size());
+		for (ProductSearchRow row : approved.values()) {
+			entries.add(new AutocompleteTrie.Entry(row.productId(), row.name(), row.salesCount(),
+					row.averageRating() == null ? 0.0 : row.averageRating()));
+		}
+		tries = new Tries(AutocompleteTrie.build(entries, false), AutocompleteTrie.build(entries, true));
+	}
+
+	// 접두어(또는 초성 "ㅅㅁㅌ")로 시작하는 상품명. 트라이 준비 전이면 null
+	public List<String> complete(String prefix) {
+		Tries current = tries;
+		if (current == null)
+			return null;
+		return Chosung.hasInitial(prefix) ? current.initials().lookup(prefix) : current.names().lookup(prefix);
+	}
+}
@@ -0,0 +1,331 @@
+package org.ezon.msa.search;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.ezon.msa.dto.ProductCursor;
+import org.ezon.msa.dto.ProductSearchCondition;
+import org.ezon.msa.dto.ProductSearchRow;
+import org.ezon.msa.enums.ProductSort;
+import org.ezon.msa.enums.ProductStatus;
+import org.ezon.msa.service.CategorySnapshot;
+
+// 판매중 상품 컬럼 테이블 (상품 하나 = 모든 배열의 같은 칸)
+// - 삭제 시 마지막 칸을 빈 칸으로 옮겨 0..size-1 이 항상 채워져 있음
+// - 카테고리 필터는 하위 카테고리 포함 (칸마다 카테고리 전위 순회 번호를 두고 구간 비교)
+// - 동기화는 호출 측(ProductColumns) 책임
+final class ProductColumnTable {
+
+	private int size;
+	private int[] productId = new int[1024];
+	private long[] categoryId = new long[1024];
+	private int[] price = new int[1024];
+	private int[] discountPrice = new int[1024];
+	private double[] averageRating = new double[1024];
+	private long[] addedAt = new long[1024];
+	// 카테고리 전위 순회 번호 (하위 카테고리 포함 필터용, 트리에 없는 카테고리는 0)
+	private int[] categoryOrder = new int[1024];
+	private final Map<Integer, Integer> slotOf = new HashMap<>();
+	private CategorySnapshot categories = CategorySnapshot.empty();
+
+	int size() {
+		return size;
+	}
+
+	CategorySnapshot categories() {
+		return categories;
+	}
+
+	// 카테고리 트리가 바뀌면 전체 칸의 순회 번호를 다시 계산
+	void useCategories(CategorySnapshot snapshot) {
+		categories = snapshot;
+		for (int slot = 0; slot < size; slot++)
+			categoryOrder[slot] = orderOf(categoryId[slot]);
+	}
+
+	// APPROVED 가 아니면 제거
+	void upsert(ProductSearchRow row) {
+		if (row.status() != ProductStatus.APPROVED || !fitsInt(row.productId()) || row.categoryId() == null) {
+			remove(row.productId());
+			return;
+		}
+		int id = row.productId().intValue();
+		Integer slot = slotOf.get(id);
+		if (slot == null) {
+			ensureCapacity(size + 1);
+			slot = size++;
+			slotOf.put(id, slot);
+		}
+		productId[slot] = id;
+		categoryId[slot] = row.categoryId();
+		price[slot] = row.price();
+		discountPrice[slot] = row.discountPrice();
+		averageRating[slot] = row.averageRating() == null ? 0.0 : row.averageRating();
+		addedAt[slot] = row.addedAt() == null ? Long.MIN_VALUE : epochNanos(row.addedAt());
+		categoryOrder[slot] = orderOf(row.categoryId());
+	}
+
+	void remove(Long id) {
+		if (!fitsInt(id))
+			return;
+		Integer slot = slotOf.remove(id.intValue());
+		if (slot == null)
+			return;
+		int last = --size;
+		if (slot != last) {
+			productId[slot] = productId[last];
+			categoryId[slot] = categoryId[last];
+			price[slot] = price[last];
+			discountPrice[slot] = discountPrice[last];
+			averageRating[slot] = averageRating[last];
+			addedAt[slot] = addedAt[last];
+			categoryOrder[slot] = categoryOrder[last];
+			slotOf.put(productId[slot], slot);
+		}
+	}
+
+	// 조건에 맞는 상품 id 를 정렬 순서대로 최대 limit 개 (limit <= 0 이면 전체)
+	// candidates 가 있으면 그 id 들만 (키워드 색인 결과), 없으면 전체 칸을 훑음
+	// facets 가 있으면 같은 루프에서 조건에 맞는 칸을 모두 집계 (커서 조건 포함)
+	int[] search(ProductSearchCondition condition, int[] candidates, ProductSort sort, ProductCursor after,
+			int limit, int parallelThreshold, FacetCounter facets) {
+		int[] slots = candidates == null ? null : slotsOf(candidates);
+		int total = slots == null ? size : slots.length;
+		int k = limit <= 0 ? total : Math.min(limit, total);
+		if (k == 0)
+			return new int[0];
+		Query query = new Query(condition, sort, after);
+
+		int[] top;
+		if (total < parallelThreshold) {
+			top = topK(query, slots, 0, total, k, facets);
+		} else {
+			// 구간별 상위 k (와 패싯)를 병렬로 구한 뒤 합쳐서 다시 상위 k
+			int chunks = Math.max(2, Runtime.getRuntime().availableProcessors());
+			int chunkSize = (total + chunks - 1) / chunks;
+			FacetCounter[] chunkFacets = new FacetCounter[chunks];
+			int[][] partial = IntStream.range(0, chunks).parallel()
+					.mapToObj(c -> {
+						chunkFacets[c] = facets == null ? null : facets.newEmpty();
+						return topK(query, slots, Math.min(total, c * chunkSize),
+								Math.min(total, (c + 1) * chunkSize), k, chunkFacets[c]);
+					})
+					.toArray(int[][]::new);
+			if (facets != null) {
+				for (FacetCounter chunk : chunkFacets)
+					facets.merge(chunk);
+			}
+			int[] merged = Arrays.stream(partial).flatMapToInt(Arrays::stream).toArray();
+			top = topK(query.withoutFilter(), merged, 0, merged.length, k, null);
+		}
+
+		int[] ids = new int[top.length];
+		for (int i = 0; i < top.length; i++)
+			ids[i] = productId[top[i]];
+		return ids;
+	}
+
+	private int[] slotsOf(int[] ids) {
+		int[] slots = new int[ids.length];
+		int n = 0;
+		for (int id : ids) {
+			Integer slot = slotOf.get(id);
+			if (slot != null)
+				slots[n++] = slot;
+		}
+		return Arrays.copyOf(slots, n);
+	}
+
+	// [from, to) 구간에서 조건에 맞는 칸 중 정렬 순서 상위 k 개 (정렬됨)
+	// 힙 루트에 지금까지 뽑은 것 중 가장 뒤에 올 칸을 둠
+	private int[] topK(Query q, int[] slots, int from, int to, int k, FacetCounter facets) {
+		int[] heap = new int[Math.min(k, to - from)];
+		int n = 0;
+		for (int i = from; i < to; i++) {
+			int slot = slots == null ? i : slots[i];
+			if (!q.matches(slot))
+				continue;
+			if (facets != null)
+				facets.add(categoryId[slot], price[slot], averageRating[slot]);
+			if (n < heap.length) {
+				heap[n] = slot;
+				siftUp(q, heap, n++);
+			} else if (q.compare(slot, heap[0]) < 0) {
+				heap[0] = slot;
+				siftDown(q, heap, 0, n);
+			}
+		}
+		// 힙 정렬: 가장 뒤에 올 칸부터 끝자리로
+		for (int end = n - 1; end > 0; end--) {
+			int tmp = heap[0];
+			heap[0] = heap[end];
+			heap[end] = tmp;
+			siftDown(q, heap, 0, end);
+		}
+		return n == heap.length ? heap : Arrays.copyOf(heap, n);
+	}
+
+	private static void siftUp(Query q, int[] heap, int i) {
+		while (i > 0) {
+			int parent = (i - 1) >>> 1;
+			if (q.compare(heap[i], heap[parent]) <= 0)
+				return;
+			int tmp = heap[i];
+			heap[i] = heap[parent];
+			heap[parent] = tmp;
+			i = parent;
+		}
+	}
+
+	private static void siftDown(Query q, int[] heap, int i, int n) {
+		while (true) {
+			int left = 2 * i + 1;
+			if (left >= n)
+				return;
+			int right = left + 1;
+			int larger = right < n && q.compare(heap[right], heap[left]) > 0 ? right : left;
+			if (q.compare(heap[larger], heap[i]) <= 0)
+				return;
+			int tmp = heap[i];
+			heap[i] = heap[larger];
+			heap[larger] = tmp;
+			i = larger;
+		}
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity <= productId.length)
+			return;
+		int next = Math.max(capacity, productId.length * 2);
+		productId = Arrays.copyOf(productId, next);
+		categoryId = Arrays.copyOf(categoryId, next);
+		price = Arrays.copyOf(price, next);
+		discountPrice = Arrays.copyOf(discountPrice, next);
+		averageRating = Arrays.copyOf(averageRating, next);
+		addedAt = Arrays.copyOf(addedAt, next);
+		categoryOrder = Arrays.copyOf(categoryOrder, next);
+	}
+
+	private int orderOf(long id) {
+		int idx = categories.indexOf(id);
+		return idx >= 0 ? categories.lftOf(idx) : 0;
+	}
+
+	private static long epochNanos(LocalDateTime time) {
+		return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + time.getNano();
+	}
+
+	private static boolean fitsInt(Long id) {
+		return id != null && id > 0 && id <= Integer.MAX_VALUE;
+	}
+
+	// 필터 조건과 정렬 비교 (배열 값을 직접 읽음)
+	private final class Query {
+		final boolean filter;
+		final long categoryId;
+		// 카테고리 하위 트리 구간 (트리에 없는 카테고리면 0..-1)
+		final int categoryLft;
+		final int categoryRgt;
+		final int minPrice;
+		final int maxPrice;
+		final double minRating;
+		final ProductSort sort;
+		final boolean ascending;
+		// 커서 (없으면 hasCursor = false)
+		final boolean hasCursor;
+		final long cursorKey;
+		final double cursorRating;
+		final int cursorId;
+
+		Query(ProductSearchCondition c, ProductSort sort, ProductCursor after) {
+			this(true, c.categoryId() == null ? Long.MIN_VALUE : c.categoryId(),
+					c.minPrice() == null ? Integer.MIN_VALUE : c.minPrice(),
+					c.maxPrice() == null ? Integer.MAX_VALUE : c.maxPrice(),
+					c.minRating() == null ? Double.NEGATIVE_INFINITY : c.minRating(), sort, after != null,
+					cursorKey(sort, after), after != null && after.key() instanceof Number n ? n.doubleValue() : 0.0,
+					after == null ? 0 : (int) Math.min(after.productId(), Integer.MAX_VALUE));
+		}
+
+		private Query(boolean filter, long categoryId, int minPrice, int maxPrice, double minRating, ProductSort sort,
+				boolean hasCursor, long cursorKey, double cursorRating, int cursorId) {
+			this.filter = filter;
+			this.categoryId = categoryId;
+			int idx = categoryId == Long.MIN_VALUE ? -1 : categories.indexOf(categoryId);
+			this.categoryLft = idx >= 0 ? categories.lftOf(idx) : 0;
+			this.categoryRgt = idx >= 0 ? categories.rgtOf(idx) : -1;
+			this.minPrice = minPrice;
+			this.maxPrice = maxPrice;
+			this.minRating = minRating;
+			this.sort = sort;
+			this.ascending = sort.isAscending();
+			this.hasCursor = hasCursor;
+			this.cursorKey = cursorKey;
+			this.cursorRating = cursorRating;
+			this.cursorId = cursorId;
+		}
+
+		// 이미 걸러진 칸끼리 다시 고를 때
+		Query withoutFilter() {
+			return new Query(false, categoryId, minPrice, maxPrice, minRating, sort, false, 0, 0.0, 0);
+		}
+
+		boolean matches(int slot) {
+			if (!filter)
+				return true;
+			if (categoryId != Long.MIN_VALUE && ProductColumnTable.this.categoryId[slot] != categoryId) {
+				int order = categoryOrder[slot];
+				if (order < categoryLft || order > categoryRgt)
+					return false;
+			}
+			int p = price[slot];
+			if (p < minPrice || p > maxPrice || averageRating[slot] < minRating)
+				return false;
+			if (hasCursor) {
+				int cmp = compareKey(slot, cursorKey, cursorRating);
+				if (cmp == 0)
+					cmp = Integer.compare(productId[slot], cursorId);
+				return ascending ? cmp > 0 : cmp < 0;
+			}
+			return true;
+		}
+
+		// 정렬 순서상 a 가 앞이면 음수
+		int compare(int a, int b) {
+			int cmp = compareKey(a, keyOf(b), averageRating[b]);
+			if (cmp == 0)
+				cmp = Integer.compare(productId[a], productId[b]);
+			return ascending ? cmp : -cmp;
+		}
+
+		private long keyOf(int slot) {
+			return switch (sort) {
+			case PRICE_ASC, PRICE_DESC -> price[slot];
+			case NEWEST -> addedAt[slot];
+			default -> 0;
+			};
+		}
+
+		private int compareKey(int slot, long key, double rating) {
+			return switch (sort) {
+			case DEFAULT -> 0;
+			case PRICE_ASC, PRICE_DESC -> Long.compare(price[slot], key);
+			case RATING_ASC, RATING_DESC -> Double.compare(averageRating[slot], rating);
+			case NEWEST -> Long.compare(addedAt[slot], key);
+			};
+		}
+	}
+
+	private static long cursorKey(ProductSort sort, ProductCursor after) {
+		if (after == null)
+			return 0;
+		return switch (sort) {
+		case PRICE_ASC, PRICE_DESC -> ((Number) after.key()).longValue();
+		case NEWEST -> epochNanos((LocalDateTime) after.key());
+		default -> 0;
+		};
+	}
+}
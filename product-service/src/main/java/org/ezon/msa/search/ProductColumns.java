@@ -0,0 +1,168 @@
+package org.ezon.msa.search;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.ezon.msa.dto.ProductCursor;
+import org.ezon.msa.dto.ProductFacets;
+import org.ezon.msa.dto.ProductListRow;
+import org.ezon.msa.dto.ProductSearchCondition;
+import org.ezon.msa.dto.ProductSearchRow;
+import org.ezon.msa.enums.ProductSort;
+import org.ezon.msa.enums.ProductStatus;
+import org.ezon.msa.event.ProductChangedEvent;
+import org.ezon.msa.repository.ProductRepository;
+import org.ezon.msa.service.CategorySnapshot;
+import org.ezon.msa.service.CategorySnapshotService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 판매중(APPROVED) 상품 목록 필터/정렬용 컬럼형 메모리 스냅샷
+// - 기동 시 전체 적재, 이후 ProductChangedEvent 로 증분 반영, 주기적으로 전체 재적재
+// - 결과는 정렬된 productId 만 돌려주고 상품 정보는 호출 측이 필요한 만큼만 DB 조회
+// - 적재 전에는 null 을 돌려주고 호출 측이 DB 검색으로 대체
+@Component
+public class ProductColumns {
+
+	private final ProductRepository productRepository;
+	private final CategorySnapshotService categorySnapshotService;
+	private final int parallelThreshold;
+	private final int[] priceBounds;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private volatile ProductColumnTable table;
+	// 전체 재적재 중 들어온 변경 (재적재 완료 후 새 테이블에 다시 반영)
+	private Map<Long, ProductChangedEvent> pendingDuringRebuild;
+
+	public ProductColumns(ProductRepository productRepository, CategorySnapshotService categorySnapshotService,
+			@Value("${product.columns.parallelThreshold:50000}") int parallelThreshold,
+			@Value("${product.facets.priceBounds:10000,30000,50000,100000}") int[] priceBounds) {
+		this.productRepository = productRepository;
+		this.categorySnapshotService = categorySnapshotService;
+		this.parallelThreshold = parallelThreshold;
+		this.priceBounds = priceBounds.clone();
+		Arrays.sort(this.priceBounds);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onReady() {
+		rebuild();
+	}
+
+	@Scheduled(fixedDelayString = "${product.search.rebuildMs:3600000}", initialDelayString = "${product.search.rebuildMs:3600000}")
+	public synchronized void rebuild() {
+		lock.writeLock().lock();
+		try {
+			pendingDuringRebuild = new LinkedHashMap<>();
+		} finally {
+			lock.writeLock().unlock();
+		}
+
+		ProductColumnTable next = new ProductColumnTable();
+		next.useCategories(categorySnapshotService.get());
+		try {
+			for (ProductSearchRow row : productRepository.findAllSearchRows())
+				next.upsert(row);
+		} finally {
+			lock.writeLock().lock();
+			try {
+				for (ProductChangedEvent event : pendingDuringRebuild.values())
+					apply(next, event);
+				pendingDuringRebuild = null;
+				table = next;
+			} finally {
+				lock.writeLock().unlock();
+			}
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProductChanged(ProductChangedEvent event) {
+		lock.writeLock().lock();
+		try {
+			if (pendingDuringRebuild != null)
+				pendingDuringRebuild.put(event.productId(), event);
+			if (table != null)
+				apply(table, event);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// 조건(키워드 제외)에 맞는 상품 id 를 정렬 순서대로 최대 limit 개 (limit <= 0 이면 전체)
+	// candidates 는 키워드 색인 결과 (null 이면 전체). APPROVED 외 상태 조회이거나 적재 전이면 null
+	public int[] search(ProductSearchCondition condition, int[] candidates, ProductSort sort, ProductCursor after,
+			int limit) {
+		if (condition.status() != ProductStatus.APPROVED)
+			return null;
+		syncCategories();
+		lock.readLock().lock();
+		try {
+			ProductColumnTable current = table;
+			if (current == null)
+				return null;
+			return current.search(condition, candidates, sort, after, limit, parallelThreshold, null);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// search(전체) + 같은 루프에서 조건에 맞는 상품의 패싯 집계. 적재 전이면 null
+	public Faceted searchWithFacets(ProductSearchCondition condition, int[] candidates, ProductSort sort) {
+		if (condition.status() != ProductStatus.APPROVED)
+			return null;
+		FacetCounter facets = new FacetCounter(categorySnapshotService.get(), priceBounds);
+		syncCategories();
+		lock.readLock().lock();
+		try {
+			ProductColumnTable current = table;
+			if (current == null)
+				return null;
+			int[] ids = current.search(condition, candidates, sort, null, 0, parallelThreshold, facets);
+			return new Faceted(ids, facets.toFacets());
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// 적재 전 DB 검색 결과용 패싯 집계
+	public ProductFacets countFacets(List<ProductListRow> products) {
+		FacetCounter facets = new FacetCounter(categorySnapshotService.get(), priceBounds);
+		for (ProductListRow p : products) {
+			facets.add(p.categoryId(), p.price(), p.averageRating() == null ? 0.0 : p.averageRating());
+		}
+		return facets.toFacets();
+	}
+
+	public record Faceted(int[] ids, ProductFacets facets) {
+	}
+
+	// 카테고리 스냅샷이 바뀌었으면 순회 번호 다시 계산
+	private void syncCategories() {
+		CategorySnapshot snapshot = categorySnapshotService.get();
+		ProductColumnTable current = table;
+		if (current == null || current.categories() == snapshot)
+			return;
+		lock.writeLock().lock();
+		try {
+			if (table.categories() != snapshot)
+				table.useCategories(snapshot);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private static void apply(ProductColumnTable target, ProductChangedEvent event) {
+		if (event.isRemoved())
+			target.remove(event.productId());
+		else
+			target.upsert(event.row());
+	}
+}
@@ -0,0 +1,299 @@
+package org.ezon.msa.search;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.ezon.msa.dto.ProductSearchRow;
+import org.ezon.msa.enums.ProductStatus;
+import org.ezon.msa.event.ProductChangedEvent;
+import org.ezon.msa.repository.ProductRepository;
+import org.ezon.msa.service.CategorySnapshot;
+import org.ezon.msa.service.CategorySnapshotService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 상품명/카테고리명 메모리 역색인
+// - 기동 시 전체 적재, 이후 ProductChangedEvent 로 증분 반영, 주기적으로 전체 재적재
+// - 검색은 n-gram 후보 교집합 → 실제 포함 여부 확인 순으로 처리
+// - 적재 전에는 null 을 돌려주고 호출 측이 DB 검색으로 대체
+@Component
+public class ProductSearchIndex {
+
+	private final ProductRepository productRepository;
+	private final CategorySnapshotService categorySnapshotService;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private volatile State state;
+	// 전체 재적재 중 들어온 변경 (재적재 완료 후 새 색인에 다시 반영)
+	private Map<Long, ProductChangedEvent> pendingDuringRebuild;
+	// 카테고리명 색인 (카테고리 스냅샷이 바뀌면 다시 만듦)
+	private volatile CategoryNames categoryNames;
+
+	public ProductSearchIndex(ProductRepository productRepository, CategorySnapshotService categorySnapshotService) {
+		this.productRepository = productRepository;
+		this.categorySnapshotService = categorySnapshotService;
+	}
+
+	public boolean isReady() {
+		return state != null;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onReady() {
+		rebuild();
+	}
+
+	// 색인 밖에서 생긴 변경을 주기적으로 보정
+	@Scheduled(fixedDelayString = "${product.search.rebuildMs:3600000}", initialDelayString = "${product.search.rebuildMs:3600000}")
+	public synchronized void rebuild() {
+		lock.writeLock().lock();
+		try {
+			pendingDuringRebuild = new LinkedHashMap<>();
+		} finally {
+			lock.writeLock().unlock();
+		}
+
+		State next = new State();
+		try {
+			for (ProductSearchRow row : productRepository.findAllSearchRows())
+				next.upsert(row);
+		} finally {
+			lock.writeLock().lock();
+			try {
+				for (ProductChangedEvent event : pendingDuringRebuild.values())
+					next.apply(event);
+				pendingDuringRebuild = null;
+				state = next;
+			} finally {
+				lock.writeLock().unlock();
+			}
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProductChanged(ProductChangedEvent event) {
+		lock.writeLock().lock();
+		try {
+			if (pendingDuringRebuild != null)
+				pendingDuringRebuild.put(event.productId(), event);
+			if (state != null)
+				state.apply(event);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// 상품명(+ 카테고리명)에 keyword 가 포함된 상품 id (오름차순)
+	// status, userId 가 null 이면 해당 조건 없음. 색인 적재 전이면 null
+	public int[] search(String keyword, boolean includeCategory, ProductStatus status, Long userId) {
+		String query = BigramTokenizer.normalize(keyword);
+		CategoryNames categories = includeCategory ? categoryNames() : null;
+		lock.readLock().lock();
+		try {
+			State current = state;
+			if (current == null)
+				return null;
+			int[] ids = current.matchName(query, status, userId);
+			if (categories != null)
+				ids = union(ids, current.matchCategory(query, categories, status, userId));
+			return ids;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private CategoryNames categoryNames() {
+		CategorySnapshot snapshot = categorySnapshotService.get();
+		CategoryNames current = categoryNames;
+		if (current == null || current.snapshot() != snapshot) {
+			IntPostingMap tokens = new IntPostingMap();
+			for (int i = 0; i < snapshot.size(); i++) {
+				long categoryId = snapshot.idAt(i);
+				if (categoryId <= 0 || categoryId > Integer.MAX_VALUE)
+					continue;
+				for (int token : BigramTokenizer.indexTokens(BigramTokenizer.normalize(snapshot.nameAt(i))))
+					tokens.getOrCreate(token).add((int) categoryId);
+			}
+			current = new CategoryNames(snapshot, tokens);
+			categoryNames = current;
+		}
+		return current;
+	}
+
+	private static int[] union(int[] a, int[] b) {
+		if (b.length == 0)
+			return a;
+		int[] out = new int[a.length + b.length];
+		int i = 0, j = 0, n = 0;
+		while (i < a.length && j < b.length) {
+			if (a[i] < b[j])
+				out[n++] = a[i++];
+			else if (a[i] > b[j])
+				out[n++] = b[j++];
+			else {
+				out[n++] = a[i++];
+				j++;
+			}
+		}
+		while (i < a.length)
+			out[n++] = a[i++];
+		while (j < b.length)
+			out[n++] = b[j++];
+		return Arrays.copyOf(out, n);
+	}
+
+	private static int[] intersect(int[] a, int[] b) {
+		int[] out = new int[Math.min(a.length, b.length)];
+		int i = 0, j = 0, n = 0;
+		while (i < a.length && j < b.length) {
+			if (a[i] < b[j])
+				i++;
+			else if (a[i] > b[j])
+				j++;
+			else {
+				out[n++] = a[i++];
+				j++;
+			}
+		}
+		return Arrays.copyOf(out, n);
+	}
+
+	private record Doc(String name, int categoryId, Long userId, ProductStatus status) {
+	}
+
+	// 생성 후 변경하지 않음
+	private record CategoryNames(CategorySnapshot snapshot, IntPostingMap tokens) {
+	}
+
+	// 색인 본체. 읽기/쓰기 모두 바깥 lock 아래에서만 접근
+	private static final class State {
+		private final IntPostingMap nameTokens = new IntPostingMap();
+		private final IntPostingMap byCategory = new IntPostingMap();
+		private final Map<Integer, Doc> docs = new HashMap<>();
+
+		void apply(ProductChangedEvent event) {
+			if (event.isRemoved())
+				remove(event.productId());
+			else
+				upsert(event.row());
+		}
+
+		// 이름/카테고리가 그대로면(리뷰, 상태, 판매자 변경 등) posting 은 두고 문서만 교체
+		// 이름이 바뀌면 달라진 토큰만, 카테고리가 바뀌면 카테고리 목록만 옮김
+		void upsert(ProductSearchRow row) {
+			if (!fitsInt(row.productId()) || !fitsInt(row.categoryId()))
+				return;
+			int id = row.productId().intValue();
+			Doc doc = new Doc(BigramTokenizer.normalize(row.name()), row.categoryId().intValue(), row.userId(),
+					row.status());
+			Doc previous = docs.put(id, doc);
+			if (previous == null || !previous.name().equals(doc.name()))
+				moveNameTokens(id, previous == null ? new int[0] : tokensOf(previous.name()), tokensOf(doc.name()));
+			if (previous == null || previous.categoryId() != doc.categoryId()) {
+				if (previous != null)
+					removeFrom(byCategory, previous.categoryId(), id);
+				byCategory.getOrCreate(doc.categoryId()).add(id);
+			}
+		}
+
+		void remove(Long productId) {
+			if (!fitsInt(productId))
+				return;
+			int id = productId.intValue();
+			Doc doc = docs.remove(id);
+			if (doc == null)
+				return;
+			moveNameTokens(id, tokensOf(doc.name()), new int[0]);
+			removeFrom(byCategory, doc.categoryId(), id);
+		}
+
+		// 정렬된 두 토큰 목록을 비교해 한쪽에만 있는 토큰의 posting 만 고침
+		private void moveNameTokens(int id, int[] before, int[] after) {
+			int i = 0, j = 0;
+			while (i < before.length || j < after.length) {
+				if (j == after.length || (i < before.length && before[i] < after[j]))
+					removeFrom(nameTokens, before[i++], id);
+				else if (i == before.length || before[i] > after[j])
+					nameTokens.getOrCreate(after[j++]).add(id);
+				else {
+					i++;
+					j++;
+				}
+			}
+		}
+
+		private static void removeFrom(IntPostingMap index, int key, int id) {
+			PostingList list = index.get(key);
+			if (list != null)
+				list.remove(id);
+		}
+
+		private static int[] tokensOf(String normalized) {
+			return Arrays.stream(BigramTokenizer.indexTokens(normalized)).sorted().distinct().toArray();
+		}
+
+		int[] matchName(String query, ProductStatus status, Long userId) {
+			int[] candidates = candidates(nameTokens, query);
+			int n = 0;
+			for (int id : candidates) {
+				Doc doc = docs.get(id);
+				if (doc != null && doc.name().contains(query) && accepts(doc, status, userId))
+					candidates[n++] = id;
+			}
+			return Arrays.copyOf(candidates, n);
+		}
+
+		int[] matchCategory(String query, CategoryNames categories, ProductStatus status, Long userId) {
+			int[] result = new int[0];
+			for (int categoryId : candidates(categories.tokens(), query)) {
+				int idx = categories.snapshot().indexOf(categoryId);
+				if (idx < 0 || !BigramTokenizer.normalize(categories.snapshot().nameAt(idx)).contains(query))
+					continue;
+				PostingList products = byCategory.get(categoryId);
+				if (products == null)
+					continue;
+				int[] ids = products.toArray();
+				int n = 0;
+				for (int id : ids) {
+					Doc doc = docs.get(id);
+					if (doc != null && accepts(doc, status, userId))
+						ids[n++] = id;
+				}
+				result = union(result, Arrays.copyOf(ids, n));
+			}
+			return result;
+		}
+
+		// 모든 검색 토큰의 posting 교집합 (짧은 목록부터)
+		private static int[] candidates(IntPostingMap index, String query) {
+			int[] tokens = BigramTokenizer.queryTokens(query);
+			if (tokens.length == 0)
+				return new int[0];
+			PostingList[] lists = new PostingList[tokens.length];
+			for (int i = 0; i < tokens.length; i++) {
+				lists[i] = index.get(tokens[i]);
+				if (lists[i] == null || lists[i].size() == 0)
+					return new int[0];
+			}
+			Arrays.sort(lists, (a, b) -> Integer.compare(a.size(), b.size()));
+			int[] result = lists[0].toArray();
+			for (int i = 1; i < lists.length && result.length > 0; i++)
+				result = intersect(result, lists[i].toArray());
+			return result;
+		}
+
+		private static boolean accepts(Doc doc, ProductStatus status, Long userId) {
+			return (status == null || doc.status() == status) && (userId == null || userId.equals(doc.userId()));
+		}
+
+		private static boolean fitsInt(Long id) {
+			return id != null && id > 0 && id <= Integer.MAX_VALUE;
+		}
+	}
+}
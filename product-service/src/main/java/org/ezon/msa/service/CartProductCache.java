@@ -0,0 +1,95 @@
+package org.ezon.msa.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.ezon.msa.dto.CartProductView;
+import org.ezon.msa.event.ProductChangedEvent;
+import org.ezon.msa.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+// 장바구니/주문 조회용 상품 요약 캐시 (productId → CartProductView)
+// - 여러 건 조회 시 캐시에 없는 id만 모아 요약 쿼리 한 번으로 채움
+// - 상품 변경(ProductChangedEvent) 시 해당 항목 제거, TTL 은 놓친 변경에 대한 안전장치
+// - 조회 중에 무효화된 항목은 조회 결과를 캐시에 남기지 않음 (변경 전 값이 TTL 동안 남지 않도록)
+@Component
+public class CartProductCache {
+
+	// 무효화 횟수 (id 해시 구간별). 조회 전후 값이 다르면 그 사이 무효화된 것
+	private static final int STRIPES = 4096;
+
+	private final ProductRepository productRepository;
+	private final Cache<Long, CartProductView> cache;
+	private final AtomicLongArray invalidations = new AtomicLongArray(STRIPES);
+
+	public CartProductCache(ProductRepository productRepository,
+			@Value("${product.cart.cacheSize:20000}") long cacheSize,
+			@Value("${product.cart.ttlSeconds:600}") long ttlSeconds) {
+		this.productRepository = productRepository;
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(cacheSize)
+				.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+				.build();
+	}
+
+	// 요청 순서대로 (중복 id 는 한 번, 없는 상품은 제외)
+	public List<CartProductView> getAll(Collection<Long> productIds) {
+		Set<Long> ids = new LinkedHashSet<>();
+		for (Long productId : productIds) {
+			if (productId != null)
+				ids.add(productId);
+		}
+		if (ids.isEmpty())
+			return List.of();
+		Map<Long, CartProductView> found = new HashMap<>(cache.getAllPresent(ids));
+		if (found.size() < ids.size()) {
+			Set<Long> missing = new LinkedHashSet<>(ids);
+			missing.removeAll(found.keySet());
+			found.putAll(load(missing));
+		}
+		return ids.stream().map(found::get).filter(Objects::nonNull).toList();
+	}
+
+	public CartProductView get(Long productId) {
+		List<CartProductView> views = getAll(List.of(productId));
+		return views.isEmpty() ? null : views.get(0);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProductChanged(ProductChangedEvent event) {
+		invalidations.incrementAndGet(stripe(event.productId()));
+		cache.invalidate(event.productId());
+	}
+
+	// 캐시에 넣은 뒤 무효화 횟수를 다시 확인해, 조회 중 무효화됐으면 넣은 값을 제거
+	// (무효화가 확인 뒤에 일어나면 그 무효화가 넣은 값을 지움)
+	private Map<Long, CartProductView> load(Set<Long> missing) {
+		Map<Long, Long> before = new HashMap<>();
+		for (Long productId : missing)
+			before.put(productId, invalidations.get(stripe(productId)));
+		Map<Long, CartProductView> result = new HashMap<>();
+		for (CartProductView view : productRepository.findCartViews(List.copyOf(missing))) {
+			result.put(view.productId(), view);
+			cache.put(view.productId(), view);
+			if (invalidations.get(stripe(view.productId())) != before.get(view.productId()))
+				cache.asMap().remove(view.productId(), view);
+		}
+		return result;
+	}
+
+	private static int stripe(Long productId) {
+		return Long.hashCode(productId) & (STRIPES - 1);
+	}
+}
@@ -0,0 +1,200 @@
+package org.ezon.msa.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.ezon.msa.entity.Category;
+
+// 카테고리 트리 불변 스냅샷
+// - categoryId(long) 정렬 배열 + 이진 탐색으로 인덱스 조회
+// - 경로, 자식, 깊이는 생성 시 한 번만 계산
+// - 전위 순회 번호 구간(lft..rgt)으로 "이 카테고리와 모든 하위 카테고리" 를 범위 하나로 표현
+public final class CategorySnapshot {
+
+	private static final CategorySnapshot EMPTY = new CategorySnapshot(List.of());
+
+	private final long[] ids;
+	private final String[] names;
+	private final int[] parents;
+	private final int[] depths;
+	private final int[][] children;
+	private final List<String>[] paths;
+	// 전위 순회 번호 (1부터), 하위 트리의 마지막 번호
+	private final int[] lfts;
+	private final int[] rgts;
+	private final List<Map<String, Object>> hierarchy;
+
+	public static CategorySnapshot empty() {
+		return EMPTY;
+	}
+
+	public static CategorySnapshot of(List<Category> categories) {
+		return new CategorySnapshot(categories);
+	}
+
+	@SuppressWarnings("unchecked")
+	private CategorySnapshot(List<Category> categories) {
+		List<Category> sorted = new ArrayList<>(categories);
+		sorted.sort((a, b) -> Long.compare(a.getCategoryId(), b.getCategoryId()));
+		int n = sorted.size();
+
+		ids = new long[n];
+		names = new String[n];
+		for (int i = 0; i < n; i++) {
+			ids[i] = sorted.get(i).getCategoryId();
+			names[i] = sorted.get(i).getName();
+		}
+
+		// 부모 인덱스 (부모가 없거나 존재하지 않으면 -1)
+		parents = new int[n];
+		int[] childCounts = new int[n];
+		for (int i = 0; i < n; i++) {
+			Long parentId = sorted.get(i).getParentId();
+			parents[i] = parentId == null ? -1 : indexOf(parentId);
+			if (parents[i] >= 0)
+				childCounts[parents[i]]++;
+		}
+
+		children = new int[n][];
+		for (int i = 0; i < n; i++)
+			children[i] = new int[childCounts[i]];
+		int[] fill = new int[n];
+		for (int i = 0; i < n; i++) {
+			int parent = parents[i];
+			if (parent >= 0)
+				children[parent][fill[parent]++] = i;
+		}
+
+		// 루트 → 자신 순서의 이름 경로 (순환 데이터는 n단계에서 끊음)
+		depths = new int[n];
+		paths = new List[n];
+		for (int i = 0; i < n; i++) {
+			List<String> path = new ArrayList<>();
+			int cur = i;
+			for (int step = 0; cur >= 0 && step < n; step++) {
+				path.add(names[cur]);
+				cur = parents[cur];
+			}
+			Collections.reverse(path);
+			depths[i] = path.size() - 1;
+			paths[i] = Collections.unmodifiableList(path);
+		}
+
+		lfts = new int[n];
+		rgts = new int[n];
+		numberSubtrees();
+
+		hierarchy = buildHierarchy(sorted);
+	}
+
+	// 루트(id 순)부터 전위 순회. 순환 등으로 루트에서 닿지 않는 카테고리는 따로 루트로 취급
+	private void numberSubtrees() {
+		int n = ids.length;
+		boolean[] visited = new boolean[n];
+		int[] stack = new int[n];
+		int[] next = new int[n];
+		int counter = 0;
+		for (int pass = 0; pass < 2; pass++) {
+			for (int root = 0; root < n; root++) {
+				if (visited[root] || (pass == 0 && parents[root] >= 0))
+					continue;
+				int top = 0;
+				stack[top] = root;
+				next[top] = 0;
+				visited[root] = true;
+				lfts[root] = ++counter;
+				while (top >= 0) {
+					int node = stack[top];
+					if (next[top] < children[node].length) {
+						int child = children[node][next[top]++];
+						if (visited[child])
+							continue;
+						visited[child] = true;
+						lfts[child] = ++counter;
+						stack[++top] = child;
+						next[top] = 0;
+					} else {
+						rgts[node] = counter;
+						top--;
+					}
+				}
+			}
+		}
+	}
+
+	// 카테고리 팝업용 (대분류 → 중분류)
+	private List<Map<String, Object>> buildHierarchy(List<Category> sorted) {
+		List<Map<String, Object>> result = new ArrayList<>();
+		for (int i = 0; i < ids.length; i++) {
+			if (sorted.get(i).getParentId() != null)
+				continue;
+			List<Map<String, Object>> childList = new ArrayList<>();
+			for (int child : children[i]) {
+				Map<String, Object> childMap = new LinkedHashMap<>();
+				childMap.put("id", ids[child]);
+				childMap.put("name", names[child]);
+				childList.add(Collections.unmodifiableMap(childMap));
+			}
+			Map<String, Object> map = new LinkedHashMap<>();
+			map.put("id", ids[i]);
+			map.put("name", names[i]);
+			map.put("children", Collections.unmodifiableList(childList));
+			result.add(Collections.unmodifiableMap(map));
+		}
+		return Collections.unmodifiableList(result);
+	}
+
+	// categoryId → 내부 인덱스 (없으면 -1)
+	public int indexOf(long categoryId) {
+		int idx = Arrays.binarySearch(ids, categoryId);
+		return idx >= 0 ? idx : -1;
+	}
+
+	public int size() {
+		return ids.length;
+	}
+
+	public long idAt(int index) {
+		return ids[index];
+	}
+
+	public String nameAt(int index) {
+		return names[index];
+	}
+
+	public int parentOf(int index) {
+		return parents[index];
+	}
+
+	public int depthOf(int index) {
+		return depths[index];
+	}
+
+	public int lftOf(int index) {
+		return lfts[index];
+	}
+
+	public int rgtOf(int index) {
+		return rgts[index];
+	}
+
+	public int[] childrenOf(int index) {
+		return children[index].clone();
+	}
+
+	// 루트부터의 카테고리 이름 경로 (없는 카테고리면 빈 목록)
+	public List<String> path(Long categoryId) {
+		if (categoryId == null)
+			return List.of();
+		int idx = indexOf(categoryId);
+		return idx >= 0 ? paths[idx] : List.of();
+	}
+
+	public List<Map<String, Object>> hierarchy() {
+		return hierarchy;
+	}
+}
@@ -0,0 +1,80 @@
+package org.ezon.msa.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.ezon.msa.entity.Category;
+import org.ezon.msa.repository.CategoryRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 카테고리 테이블을 메모리 스냅샷으로 유지
+// 조회는 DB 접근 없이 현재 스냅샷만 사용하고, 갱신 시 새 스냅샷으로 통째로 교체
+// 전위 순회 구간(lft/rgt, 하위 카테고리 포함 DB 조회용)은 refresh() 에서만 다시 계산해 저장 (조회 경로는 쓰기 없음)
+// 트리 변경 후 관리자 갱신 요청이 없으면 DB 의 구간은 최대 product.category.refreshMs 동안 이전 값
+@Service
+public class CategorySnapshotService {
+
+	private final CategoryRepository categoryRepository;
+	private final TransactionTemplate tx;
+
+	private volatile CategorySnapshot snapshot;
+
+	public CategorySnapshotService(CategoryRepository categoryRepository,
+			PlatformTransactionManager transactionManager) {
+		this.categoryRepository = categoryRepository;
+		this.tx = new TransactionTemplate(transactionManager);
+	}
+
+	public CategorySnapshot get() {
+		CategorySnapshot current = snapshot;
+		if (current == null) {
+			synchronized (this) {
+				current = snapshot;
+				if (current == null) {
+					// 첫 적재는 읽기만 (구간 저장은 refresh 에서)
+					current = CategorySnapshot.of(categoryRepository.findAll());
+					snapshot = current;
+				}
+			}
+		}
+		return current;
+	}
+
+	// 아직 적재 전이면 null
+	public CategorySnapshot getIfLoaded() {
+		return snapshot;
+	}
+
+	// 카테고리 변경 반영 (주기적 + 관리자 요청). 읽기와 구간 저장을 한 트랜잭션에서
+	@Scheduled(fixedDelayString = "${product.category.refreshMs:300000}", initialDelayString = "${product.category.refreshMs:300000}")
+	public CategorySnapshot refresh() {
+		CategorySnapshot next = tx.execute(status -> reindex());
+		synchronized (this) {
+			snapshot = next;
+		}
+		return next;
+	}
+
+	// 구간이 바뀐 카테고리만 저장
+	private CategorySnapshot reindex() {
+		List<Category> categories = categoryRepository.findAll();
+		CategorySnapshot next = CategorySnapshot.of(categories);
+		List<Category> changed = new ArrayList<>();
+		for (Category category : categories) {
+			int idx = next.indexOf(category.getCategoryId());
+			Integer lft = next.lftOf(idx);
+			Integer rgt = next.rgtOf(idx);
+			if (!lft.equals(category.getLft()) || !rgt.equals(category.getRgt())) {
+				category.setLft(lft);
+				category.setRgt(rgt);
+				changed.add(category);
+			}
+		}
+		if (!changed.isEmpty())
+			categoryRepository.saveAll(changed);
+		return next;
+	}
+}
@@ -0,0 +1,141 @@
+package org.ezon.msa.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.ezon.msa.dto.EngagementDelta;
+import org.ezon.msa.dto.ProductSearchRow;
+import org.ezon.msa.enums.EngagementType;
+import org.ezon.msa.event.ProductSalesChangedEvent;
+import org.ezon.msa.repository.ProductRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+
+// 상품 조회수/판매수 write-behind 카운터
+// - 이벤트는 상품별 LongAdder 에만 더함 (DB 쓰기 없음)
+// - flushMs 마다 쌓인 증가분을 product 테이블에 일괄 UPDATE 한 번으로 반영
+// - 반영 실패 시 증가분을 카운터에 되돌려 다음 주기에 다시 시도
+@Component
+public class EngagementCounters {
+
+	private static final class Counter {
+		final LongAdder views = new LongAdder();
+		final LongAdder sales = new LongAdder();
+	}
+
+	private final ProductRepository productRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final TransactionTemplate tx;
+	private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+
+	public EngagementCounters(ProductRepository productRepository, ApplicationEventPublisher eventPublisher,
+			PlatformTransactionManager transactionManager) {
+		this.productRepository = productRepository;
+		this.eventPublisher = eventPublisher;
+		this.tx = new TransactionTemplate(transactionManager);
+	}
+
+	public void record(Long productId, EngagementType type, long quantity) {
+		if (productId == null || quantity <= 0)
+			return;
+		Counter counter = counters.computeIfAbsent(productId, id -> new Counter());
+		(type == EngagementType.SALE ? counter.sales : counter.views).add(quantity);
+	}
+
+	private record Event(long productId, EngagementType type, long quantity) {
+	}
+
+	// events: [{productId, type(VIEW/SALE), quantity(기본 1)}, ...]. 반환값은 반영한 이벤트 수
+	// 전부 검증한 뒤에 반영 (중간에 잘못된 이벤트가 있으면 하나도 세지 않아 재시도 시 중복 집계 없음)
+	@SuppressWarnings("unchecked")
+	public int recordAll(Map<String, Object> map) {
+		Object events = map.get("events");
+		if (!(events instanceof List))
+			throw new IllegalArgumentException("필수값 누락: events");
+		List<Event> parsed = new ArrayList<>();
+		for (Object item : (List<Object>) events) {
+			if (!(item instanceof Map))
+				throw new IllegalArgumentException("잘못된 이벤트입니다.");
+			Map<String, Object> event = (Map<String, Object>) item;
+			if (event.get("productId") == null || event.get("type") == null)
+				throw new IllegalArgumentException("필수값 누락: productId, type");
+			long productId = Long.parseLong(event.get("productId").toString());
+			EngagementType type = EngagementType.valueOf(event.get("type").toString().toUpperCase());
+			long quantity = event.get("quantity") == null ? 1 : Long.parseLong(event.get("quantity").toString());
+			if (quantity <= 0)
+				throw new IllegalArgumentException("수량은 1 이상이어야 합니다.");
+			parsed.add(new Event(productId, type, quantity));
+		}
+		for (Event event : parsed)
+			record(event.productId(), event.type(), event.quantity());
+		return parsed.size();
+	}
+
+	public void recordView(Long productId) {
+		record(productId, EngagementType.VIEW, 1);
+	}
+
+	public void recordSale(Long productId, long quantity) {
+		record(productId, EngagementType.SALE, quantity);
+	}
+
+	// 반영된 상품 수
+	@Scheduled(fixedDelayString = "${product.engagement.flushMs:10000}", initialDelayString = "${product.engagement.flushMs:10000}")
+	public synchronized int flush() {
+		SortedMap<Long, EngagementDelta> deltas = new TreeMap<>();
+		counters.forEach((productId, counter) -> {
+			long views = counter.views.sumThenReset();
+			long sales = counter.sales.sumThenReset();
+			if (views != 0 || sales != 0)
+				deltas.put(productId, new EngagementDelta(views, sales));
+		});
+		if (deltas.isEmpty())
+			return 0;
+
+		Map<Long, Integer> updated;
+		try {
+			updated = tx.execute(status -> productRepository.addEngagement(deltas));
+		} catch (RuntimeException e) {
+			deltas.forEach((productId, delta) -> {
+				Counter counter = counters.computeIfAbsent(productId, id -> new Counter());
+				counter.views.add(delta.views());
+				counter.sales.add(delta.sales());
+			});
+			throw e;
+		}
+
+		// 없는 상품(삭제됨/잘못된 id)의 카운터는 버림
+		updated.forEach((productId, count) -> {
+			if (count == 0)
+				counters.remove(productId);
+		});
+		// 판매수는 자동완성 순위에만 쓰이므로 판매수 변경 알림만 (전체 상품 변경 알림은 보내지 않음)
+		List<Long> soldIds = deltas.entrySet().stream()
+				.filter(e -> e.getValue().sales() != 0 && updated.getOrDefault(e.getKey(), 0) > 0)
+				.map(Map.Entry::getKey)
+				.toList();
+		if (!soldIds.isEmpty()) {
+			Map<Long, Integer> salesCounts = new HashMap<>();
+			for (ProductSearchRow row : productRepository.findSearchRows(soldIds))
+				salesCounts.put(row.productId(), row.salesCount());
+			eventPublisher.publishEvent(new ProductSalesChangedEvent(salesCounts));
+		}
+		return updated.size();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		flush();
+	}
+}
@@ -0,0 +1,72 @@
+package org.ezon.msa.service;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import org.ezon.msa.client.SellerProfileClient;
+import org.ezon.msa.config.EnrichmentExecutor;
+import org.ezon.msa.dto.ProductListRow;
+import org.ezon.msa.dto.SellerProfile;
+import org.ezon.msa.entity.Product;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 목록 보강 단계: 페이지 전체의 판매자/카테고리 조회를 동시에 시작하고
+// 요청별 마감 시간(timeoutMs)까지만 기다림. 가장 느린 조회 하나가 지연 시간을 결정
+@Component
+public class ProductEnricher {
+
+	private final SellerProfileClient sellerProfileClient;
+	private final CategorySnapshotService categorySnapshotService;
+	private final EnrichmentExecutor executor;
+	private final long timeoutMs;
+
+	public ProductEnricher(SellerProfileClient sellerProfileClient, CategorySnapshotService categorySnapshotService,
+			EnrichmentExecutor executor, @Value("${product.enrichment.timeoutMs:2000}") long timeoutMs) {
+		this.sellerProfileClient = sellerProfileClient;
+		this.categorySnapshotService = categorySnapshotService;
+		this.executor = executor;
+		this.timeoutMs = timeoutMs;
+	}
+
+	public ProductEnrichment enrich(Collection<Product> products) {
+		return enrichSellers(products.stream().map(Product::getUserId).filter(Objects::nonNull)
+				.collect(Collectors.toSet()));
+	}
+
+	public ProductEnrichment enrichRows(Collection<ProductListRow> rows) {
+		return enrichSellers(rows.stream().map(ProductListRow::userId).filter(Objects::nonNull)
+				.collect(Collectors.toSet()));
+	}
+
+	private ProductEnrichment enrichSellers(Set<Long> userIds) {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+
+		CompletableFuture<Map<Long, SellerProfile>> sellers = sellerProfileClient.getProfilesAsync(userIds);
+
+		// 카테고리 스냅샷은 최초 1회만 DB 적재가 필요
+		CategorySnapshot loaded = categorySnapshotService.getIfLoaded();
+		CompletableFuture<CategorySnapshot> categories = loaded != null ? CompletableFuture.completedFuture(loaded)
+				: CompletableFuture.supplyAsync(categorySnapshotService::get, executor.get());
+
+		return new ProductEnrichment(await(sellers, deadline, Map.of()),
+				await(categories, deadline, CategorySnapshot.empty()));
+	}
+
+	private static <T> T await(CompletableFuture<T> future, long deadline, T fallback) {
+		try {
+			return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException | TimeoutException e) {
+		}
+		return fallback;
+	}
+}
@@ -0,0 +1,31 @@
+package org.ezon.msa.service;
+
+import java.util.List;
+import java.util.Map;
+
+import org.ezon.msa.dto.ProductListRow;
+import org.ezon.msa.dto.ProductView;
+import org.ezon.msa.dto.SellerProfile;
+import org.ezon.msa.entity.Product;
+
+// 한 페이지 상품 목록에 붙일 외부/부가 정보 (판매자, 카테고리)
+// 마감 시간 안에 못 받은 항목은 빈 값
+public record ProductEnrichment(Map<Long, SellerProfile> sellers, CategorySnapshot categories) {
+
+	public SellerProfile seller(Long userId) {
+		SellerProfile seller = userId != null ? sellers.get(userId) : null;
+		return seller != null ? seller : SellerProfile.blank(userId);
+	}
+
+	public List<String> categoryPath(Long categoryId) {
+		return categories.path(categoryId);
+	}
+
+	public ProductView view(Product p) {
+		return ProductView.of(p, seller(p.getUserId()), categoryPath(p.getCategoryId()));
+	}
+
+	public ProductView view(ProductListRow p) {
+		return ProductView.of(p, seller(p.userId()), categoryPath(p.categoryId()));
+	}
+}
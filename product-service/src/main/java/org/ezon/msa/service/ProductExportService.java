@@ -0,0 +1,151 @@
+package org.ezon.msa.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.ezon.msa.entity.Product;
+import org.ezon.msa.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+
+// 전체 상품 NDJSON 내보내기 (관리자)
+// 커서로 batchSize 건씩 읽어 보강 → 한 줄씩 출력 → flush → 영속성 컨텍스트 비움
+// 상품 수와 관계없이 메모리에는 한 묶음만 유지
+// HTTP 응답은 별도 스레드에서 묶음마다 전송하고, 이 응답에만 긴 제한 시간(timeoutMs) 적용
+@Service
+public class ProductExportService {
+
+	private final ProductRepository productRepository;
+	private final ProductEnricher productEnricher;
+	private final EntityManager entityManager;
+	private final ObjectMapper objectMapper;
+	private final TransactionTemplate readOnlyTx;
+	private final AsyncTaskExecutor taskExecutor;
+	private final int batchSize;
+	private final long timeoutMs;
+
+	public ProductExportService(ProductRepository productRepository, ProductEnricher productEnricher,
+			EntityManager entityManager, ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+			@Qualifier("applicationTaskExecutor") AsyncTaskExecutor taskExecutor,
+			@Value("${product.export.batchSize:500}") int batchSize,
+			@Value("${product.export.timeoutMs:1800000}") long timeoutMs) {
+		this.productRepository = productRepository;
+		this.productEnricher = productEnricher;
+		this.entityManager = entityManager;
+		this.objectMapper = objectMapper;
+		this.readOnlyTx = new TransactionTemplate(transactionManager);
+		this.readOnlyTx.setReadOnly(true);
+		this.taskExecutor = taskExecutor;
+		this.batchSize = Math.max(1, batchSize);
+		this.timeoutMs = timeoutMs;
+	}
+
+	// 응답용: 작업 스레드에서 exportAll 을 실행하고 flush 마다 쌓인 줄을 전송
+	// 클라이언트가 끊기거나 제한 시간이 지나면 다음 전송에서 예외가 나 내보내기를 멈춤
+	public ResponseBodyEmitter exportAllAsync() {
+		ResponseBodyEmitter emitter = new ResponseBodyEmitter(timeoutMs);
+		taskExecutor.execute(() -> {
+			try (OutputStream out = new EmitterOutputStream(emitter)) {
+				exportAll(out);
+			} catch (IOException | RuntimeException e) {
+				emitter.completeWithError(e);
+				return;
+			}
+			emitter.complete();
+		});
+		return emitter;
+	}
+
+	// 출력한 상품 수
+	public long exportAll(OutputStream out) throws IOException {
+		JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+		generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+		// 줄 구분은 직접 씀 (기본 구분자는 공백)
+		generator.setRootValueSeparator(null);
+		try {
+			Long count = readOnlyTx.execute(status -> {
+				try (Stream<Product> products = productRepository.streamAll()) {
+					return write(products.iterator(), generator);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+			return count != null ? count : 0;
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		} finally {
+			generator.close();
+		}
+	}
+
+	private long write(Iterator<Product> products, JsonGenerator generator) throws IOException {
+		List<Product> batch = new ArrayList<>(batchSize);
+		long count = 0;
+		while (products.hasNext()) {
+			batch.add(products.next());
+			if (batch.size() == batchSize || !products.hasNext()) {
+				ProductEnrichment enrichment = productEnricher.enrich(batch);
+				for (Product p : batch) {
+					objectMapper.writeValue(generator, enrichment.view(p));
+					generator.writeRaw('\n');
+				}
+				generator.flush();
+				count += batch.size();
+				batch.clear();
+				entityManager.clear();
+			}
+		}
+		return count;
+	}
+
+	// 쓴 내용을 모아 두었다가 flush/close 때 한 번에 전송
+	private static final class EmitterOutputStream extends OutputStream {
+
+		private final ResponseBodyEmitter emitter;
+		private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+		EmitterOutputStream(ResponseBodyEmitter emitter) {
+			this.emitter = emitter;
+		}
+
+		@Override
+		public void write(int b) {
+			buffer.write(b);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			buffer.write(b, off, len);
+		}
+
+		@Override
+		public void flush() throws IOException {
+			if (buffer.size() == 0)
+				return;
+			emitter.send(buffer.toByteArray(), MediaType.APPLICATION_NDJSON);
+			buffer.reset();
+		}
+
+		@Override
+		public void close() throws IOException {
+			flush();
+		}
+	}
+}
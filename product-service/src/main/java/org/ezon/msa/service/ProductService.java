@@ -2,75 +2,145 @@ package org.ezon.msa.service;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import org.ezon.msa.common.ApiEndpointConstants;
+import org.ezon.msa.dto.CartProductDetailView;
+import org.ezon.msa.dto.CartProductView;
+import org.ezon.msa.dto.ProductCursor;
+import org.ezon.msa.dto.ProductScrollView;
+import org.ezon.msa.dto.Pagination;
 import org.ezon.msa.dto.ProductDto;
-import org.ezon.msa.dto.UserDto;
-import org.ezon.msa.entity.Category;
+import org.ezon.msa.dto.ProductListRow;
+import org.ezon.msa.dto.ProductSearchCondition;
+import org.ezon.msa.dto.ProductSearchRow;
+import org.ezon.msa.dto.ProductSearchView;
+import org.ezon.msa.dto.ProductView;
 import org.ezon.msa.entity.Product;
-import org.ezon.msa.entity.Review;
+import org.ezon.msa.enums.ProductSort;
 import org.ezon.msa.enums.ProductStatus;
-import org.ezon.msa.repository.CategoryRepository;
+import org.ezon.msa.event.ProductChangedEvent;
+import org.ezon.msa.flashsale.FlashSaleService;
 import org.ezon.msa.repository.ProductRepository;
-import org.ezon.msa.repository.ReviewRepository;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpMethod;
+import org.ezon.msa.search.ProductAutocomplete;
+import org.ezon.msa.search.ProductColumns;
+import org.ezon.msa.search.ProductSearchIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import jakarta.transaction.Transactional;
+
 @Service
 public class ProductService {
 
 	private final RestTemplate restTemplate;
+	private final ProductEnricher productEnricher;
+	private final CartProductCache cartProductCache;
+	private final FlashSaleService flashSaleService;
 
 	private final ProductRepository productRepository;
-	private final CategoryRepository categoryRepository;
-	private final ReviewRepository reviewRepository;
+	private final CategorySnapshotService categorySnapshotService;
+	private final ProductSearchIndex productSearchIndex;
+	private final ProductColumns productColumns;
+	private final ProductAutocomplete productAutocomplete;
+	private final ApplicationEventPublisher eventPublisher;
+
+	private static final int MAX_PAGE_SIZE = 100;
+	private static final int[] NOT_READY = new int[0];
+	private final int pageSize;
 	
-	public ProductService(RestTemplate restTemplate, ProductRepository productRepository,
-			CategoryRepository categoryRepository, ReviewRepository reviewRepository) {
+	public ProductService(RestTemplate restTemplate, ProductEnricher productEnricher,
+			CartProductCache cartProductCache, FlashSaleService flashSaleService,
+			ProductRepository productRepository, CategorySnapshotService categorySnapshotService,
+			ProductSearchIndex productSearchIndex, ProductColumns productColumns,
+			ProductAutocomplete productAutocomplete,
+			ApplicationEventPublisher eventPublisher,
+			@Value("${product.pageSize:20}") int pageSize) {
 		super();
+		this.pageSize = pageSize;
 		this.restTemplate = restTemplate;
+		this.productEnricher = productEnricher;
+		this.cartProductCache = cartProductCache;
+		this.flashSaleService = flashSaleService;
 		this.productRepository = productRepository;
-		this.categoryRepository = categoryRepository;
-		this.reviewRepository = reviewRepository;
+		this.categorySnapshotService = categorySnapshotService;
+		this.productSearchIndex = productSearchIndex;
+		this.productColumns = productColumns;
+		this.productAutocomplete = productAutocomplete;
+		this.eventPublisher = eventPublisher;
+	}
+
+	// 통합 검색(브랜드/카테고리/상품명) - 필터/정렬은 메모리 컬럼 스냅샷에서, 준비 전에는 DB에서
+	public List<ProductView> searchProductsAll(String keyword, Long categoryId, Integer minPrice,
+			Integer maxPrice, Double minRating, String sort) {
+		ProductSearchCondition condition = new ProductSearchCondition(keyword, categoryId, minPrice, maxPrice,
+				minRating, ProductStatus.APPROVED);
+		ProductSort productSort = ProductSort.from(sort);
+		int[] ids = searchColumns(condition, productSort, null, 0);
+		if (ids == null)
+			return toViewList(productRepository.searchSorted(condition, productSort, null, 0));
+		return toViewList(hydrate(ids, null, null));
 	}
 
-	// 통합 검색(브랜드/카테고리/상품명)
-	public List<Map<String, Object>> searchProductsAll(String keyword, Long categoryId, Integer minPrice,
+	// 통합 검색 + 패싯 집계 (카테고리/가격 구간/평점 구간별 상품 수, 목록과 같은 조건)
+	public ProductSearchView searchProductsWithFacets(String keyword, Long categoryId, Integer minPrice,
 			Integer maxPrice, Double minRating, String sort) {
-		List<Product> list = productRepository.searchProductsAll(keyword, categoryId, minPrice, maxPrice, minRating,
-				ProductStatus.APPROVED);
-		// 정렬 (Java Stream 예시)
-		if ("price_asc".equals(sort)) {
-			list = list.stream().sorted(Comparator.comparingInt(Product::getPrice)).collect(Collectors.toList());
-		} else if ("price_desc".equals(sort)) {
-			list = list.stream().sorted(Comparator.comparingInt(Product::getPrice).reversed())
-					.collect(Collectors.toList());
-		} else if ("rating_desc".equals(sort)) {
-			list = list.stream().sorted(Comparator.comparingDouble(Product::getAverageRating).reversed())
-					.collect(Collectors.toList());
-		} else if ("rating_asc".equals(sort)) {
-			list = list.stream().sorted(Comparator.comparingDouble(Product::getAverageRating))
-					.collect(Collectors.toList());
+		ProductSearchCondition condition = new ProductSearchCondition(keyword, categoryId, minPrice, maxPrice,
+				minRating, ProductStatus.APPROVED);
+		ProductSort productSort = ProductSort.from(sort);
+		ProductColumns.Faceted result = null;
+		int[] candidates = keywordCandidates(condition);
+		if (candidates != NOT_READY)
+			result = productColumns.searchWithFacets(condition, candidates, productSort);
+		if (result == null) {
+			List<ProductListRow> products = productRepository.searchSorted(condition, productSort, null, 0);
+			return new ProductSearchView(toViewList(products), productColumns.countFacets(products));
 		}
-		return list.stream().map(this::toMap).toList();
+		return new ProductSearchView(toViewList(hydrate(result.ids(), null, null)), result.facets());
+	}
+
+	// 메인 목록 커서 페이징 (정렬 키 + productId 키셋)
+	public ProductScrollView scrollProducts(String keyword, Long categoryId, Integer minPrice, Integer maxPrice,
+			Double minRating, String sort, String cursor, Integer size) {
+		ProductSort productSort = ProductSort.from(sort);
+		ProductCursor after = cursor == null || cursor.isBlank() ? null : ProductCursor.decode(productSort, cursor);
+		int limit = size == null ? pageSize : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+		ProductSearchCondition condition = new ProductSearchCondition(keyword, categoryId, minPrice, maxPrice,
+				minRating, ProductStatus.APPROVED);
+
+		// 다음 페이지 존재 여부 확인용으로 한 건 더 조회
+		List<ProductListRow> rows;
+		boolean hasNext;
+		int[] ids = searchColumns(condition, productSort, after, limit + 1);
+		if (ids != null) {
+			hasNext = ids.length > limit;
+			rows = hydrate(hasNext ? Arrays.copyOf(ids, limit) : ids, null, null);
+		} else {
+			rows = productRepository.searchSorted(condition, productSort, after, limit + 1);
+			hasNext = rows.size() > limit;
+			if (hasNext)
+				rows = rows.subList(0, limit);
+		}
+
+		String nextCursor = hasNext && !rows.isEmpty()
+				? ProductCursor.after(productSort, rows.get(rows.size() - 1)).encode()
+				: null;
+		return new ProductScrollView(toViewList(rows), nextCursor, hasNext);
 	}
 
 	// [user] 상품 목록 (검색, 필터링 포함)
-	public List<Map<String, Object>> getProductList(Long userId, String role, Long categoryId, String keyword) {
-		List<Product> products;
+	public List<ProductView> getProductList(Long userId, String role, Long categoryId, String keyword) {
+		List<ProductListRow> products;
 		if ("ADMIN".equals(role)) {
-			products = productRepository.findAll();
+			products = productRepository.findAllListRows();
 		} else if ("SELLER".equals(role)) {
 			if (categoryId != null && keyword != null && !keyword.isBlank()) {
 				products = productRepository.findByUserIdAndCategoryIdAndNameContainingIgnoreCase(userId, categoryId,
@@ -85,10 +155,10 @@ public class ProductService {
 		} else {
 			// 일반 구매자: 승인 상품만
 			if (categoryId != null && keyword != null && !keyword.isBlank()) {
-				products = productRepository.findByCategoryIdAndNameContainingIgnoreCaseAndStatus(categoryId, keyword,
+				products = productRepository.findInCategoryTreeAndNameContainingAndStatus(categoryId, keyword,
 						ProductStatus.APPROVED);
 			} else if (categoryId != null) {
-				products = productRepository.findByCategoryIdAndStatus(categoryId, ProductStatus.APPROVED);
+				products = productRepository.findInCategoryTreeAndStatus(categoryId, ProductStatus.APPROVED);
 			} else if (keyword != null && !keyword.isBlank()) {
 				products = productRepository.findByNameContainingIgnoreCaseAndStatus(keyword, ProductStatus.APPROVED);
 			} else {
@@ -96,54 +166,39 @@ public class ProductService {
 			}
 		}
 		
-		return products.stream().map(this::toMap).toList();
+		return toViewList(products);
 	}
 	private List<ProductDto> getDto(List<Product> products){
 		List<ProductDto> result = new ArrayList<>(); 
+		ProductEnrichment enrichment = productEnricher.enrich(products);
 		for(Product p : products) {
 			ProductDto temp = new ProductDto();
 			temp.setName(p.getName());
 			temp.setProductId(p.getProductId());
-			UserDto user = getUser(p.getUserId());
-			if(user != null) {
-				temp.setUserName(user.getName());
-			}
+			temp.setUserName(enrichment.seller(p.getUserId()).name());
 			temp.setStatus(p.getStatus().name());
 			temp.setAddedAt(p.getAddedAt());
 			result.add(temp);
 		}
 		return result;
 	}
-	private UserDto getUser(Long userId){
-		String url = "http://localhost:10000/api/users/"+userId;
-		ResponseEntity<UserDto> temp = restTemplate.exchange(
-			url, 
-			HttpMethod.GET,
-			null,
-			new ParameterizedTypeReference<UserDto>() {}
-		);
-		UserDto result = temp.getBody();
-		return result == null? null:result;
-	}
 	// PENDING 상태 상품만 (관리자)
-	public List<Map<String, Object>> getPendingProductsForAdmin() {
-		return productRepository.findByStatus(ProductStatus.PENDING).stream().map(this::toMap)
-				.collect(Collectors.toList());
+	public List<ProductView> getPendingProductsForAdmin() {
+		return toViewList(productRepository.findByStatus(ProductStatus.PENDING));
 	}
 
 	// [user] 상품 상세 조회
-	public Map<String, Object> getProductByIdWithAuth(Long productId) {
+	public ProductView getProductByIdWithAuth(Long productId) {
 		Product p = productRepository.findById(productId)
 				.orElseThrow(() -> new NoSuchElementException("상품이 존재하지 않습니다."));
 		if (p.getStatus() != ProductStatus.APPROVED)
 			throw new SecurityException("승인된 상품만 조회 가능합니다.");
-		return toMap(p);
+		return toView(p);
 	}
 
 	// [seller] 카테고리별 상품 목록
-	public List<Map<String, Object>> findByCategory(Long categoryId) {
-		return productRepository.findByCategoryIdAndStatus(categoryId, ProductStatus.APPROVED).stream().map(this::toMap)
-				.toList();
+	public List<ProductView> findByCategory(Long categoryId) {
+		return toViewList(productRepository.findInCategoryTreeAndStatus(categoryId, ProductStatus.APPROVED));
 	}
 
 	// [seller] 상품 등록
@@ -174,20 +229,22 @@ public class ProductService {
 			    .build();
 
 	        productRepository.save(product);
+	        publishChanged(product);
 	}
 
 	// 판매자 본인만 상세조회 허용
-	public Map<String, Object> getProductByIdForSeller(Long productId, Long userId, String role) {
+	public ProductView getProductByIdForSeller(Long productId, Long userId, String role) {
 		Product p = productRepository.findById(productId)
 				.orElseThrow(() -> new NoSuchElementException("상품이 존재하지 않습니다."));
 		// 판매자 검증
 		if (!"SELLER".equals(role) || !p.getUserId().equals(userId)) {
 			throw new SecurityException("본인 상품만 조회 가능합니다.");
 		}
-		return toMap(p);
+		return toView(p);
 	}
 
-	// [seller] 상품 수정
+	// [seller] 상품 수정 (요청에 있는 컬럼만 UPDATE, 재고는 읽은 값과의 차이만큼 증감)
+	@Transactional
 	public void updateProduct(Long productId, Map<String, Object> map) {
 	    Product product = productRepository.findById(productId)
 	        .orElseThrow(() -> new NoSuchElementException("상품이 존재하지 않습니다."));
@@ -215,8 +272,12 @@ public class ProductService {
 	        product.setDiscountPrice(Integer.parseInt(map.get("discountPrice").toString()));
 
 	    // stockQuantity
+	    Integer stock = null;
 	    if (map.containsKey("stockQuantity") && map.get("stockQuantity") != null && !map.get("stockQuantity").toString().isBlank())
-	        product.setStockQuantity(Integer.parseInt(map.get("stockQuantity").toString()));
+	        stock = Integer.parseInt(map.get("stockQuantity").toString());
+	    // 플래시 세일 중 재고는 카운터가 관리 (updateInventory 와 같이 거절)
+	    if (stock != null && flashSaleService.isActive(productId))
+	        throw new IllegalStateException("플래시 세일 중에는 재고를 변경할 수 없습니다.");
 
 	    // image
 	    if (map.containsKey("image") && map.get("image") != null && !map.get("image").toString().isBlank())
@@ -236,6 +297,8 @@ public class ProductService {
 
 	    // status
 	    if (map.containsKey("status") && map.get("status") != null && !map.get("status").toString().isBlank()) {
+	        if (flashSaleService.isActive(productId))
+	            throw new IllegalStateException("플래시 세일 중에는 상태를 변경할 수 없습니다.");
 	        Object statusObj = map.get("status");
 	        if (statusObj instanceof ProductStatus) {
 	            product.setStatus((ProductStatus) statusObj);
@@ -244,7 +307,11 @@ public class ProductService {
 	        }
 	    }
 
-	    productRepository.save(product);
+	    // 재고 증감 SQL 의 상태 전환이 바뀐 status 를 기준으로 하도록 먼저 반영
+	    productRepository.flush();
+	    if (stock != null)
+	        productRepository.applyStockDeltas(new TreeMap<>(Map.of(productId, stock - product.getStockQuantity())));
+	    publishChanged(productId);
 	}
 
 	// [seller] 상품 삭제 (컨트롤러에서 (Long, Long, String)으로 받음)
@@ -252,7 +319,10 @@ public class ProductService {
 		Product product = productRepository.findById(productId)
 				.orElseThrow(() -> new NoSuchElementException("상품이 존재하지 않습니다."));
 		validateSellerPermission(userId, product);
+		if (flashSaleService.isActive(productId))
+			throw new IllegalStateException("플래시 세일 중인 상품은 삭제할 수 없습니다.");
 		productRepository.delete(product);
+		eventPublisher.publishEvent(new ProductChangedEvent(productId, null));
 	}
 
 	// [seller] 재고 조회 (컨트롤러에서 (Long, Long, String)으로 받음)
@@ -260,78 +330,135 @@ public class ProductService {
 		Product product = productRepository.findById(productId)
 				.orElseThrow(() -> new NoSuchElementException("상품이 존재하지 않습니다."));
 		validateSellerPermission(userId, product);
-		return product.getStockQuantity();
+		// 플래시 세일 중이면 DB 반영 전인 카운터 값
+		Integer flashStock = flashSaleService.available(productId);
+		return flashStock != null ? flashStock : product.getStockQuantity();
 	}
 
 	// [seller] 재고 변경 (컨트롤러에서 (Long, int, Long, String)으로 받음)
+	// 읽은 값과의 차이만큼 증감해 그 사이 예약 차감을 덮어쓰지 않음. SOLD_OUT/APPROVED 전환은 applyStockDeltas 에서
+	@Transactional
 	public void updateInventory(Long productId, int stock, Long userId, String role) {
 		Product product = productRepository.findById(productId)
 				.orElseThrow(() -> new NoSuchElementException("상품이 존재하지 않습니다."));
 		validateSellerPermission(userId, product);
+		if (flashSaleService.isActive(productId))
+			throw new IllegalStateException("플래시 세일 중에는 재고를 변경할 수 없습니다.");
 
-		product.setStockQuantity(stock);
-
-		// 상태 자동 변경
-		if (stock <= 0) {
-			product.setStatus(ProductStatus.SOLD_OUT);
-		} else if (product.getStatus() == ProductStatus.SOLD_OUT || product.getStatus() == ProductStatus.APPROVED) {
-			product.setStatus(ProductStatus.APPROVED);
-		}
-		productRepository.save(product);
+		productRepository.applyStockDeltas(new TreeMap<>(Map.of(productId, stock - product.getStockQuantity())));
+		publishChanged(productId);
 	}
 
 	// [admin] 상품 승인
 	public void approveProduct(Long productId, Long adminId, String role) {
-		Product product = productRepository.findById(productId)
-				.orElseThrow(() -> new NoSuchElementException("상품이 존재하지 않습니다."));
-		product.setIsApproved(true);
-		product.setStatus(ProductStatus.APPROVED);
-		productRepository.save(product);
+		if (productRepository.updateApproval(productId, ProductStatus.APPROVED, true) == 0)
+			throw new NoSuchElementException("상품이 존재하지 않습니다.");
+		publishChanged(productId);
 	}
 
 	// [admin] 상품 거절
 	public void rejectProduct(Long productId, Long adminId, String role) {
-		Product product = productRepository.findById(productId)
-				.orElseThrow(() -> new NoSuchElementException("상품이 존재하지 않습니다."));
-		product.setIsApproved(false);
-		product.setStatus(ProductStatus.REJECTED);
-		productRepository.save(product);
+		// 판매중이 아니게 되므로 플래시 세일부터 종료 (남은 변경분이 반영된 재고를 읽도록 먼저)
+		flashSaleService.disableIfActive(productId);
+		if (productRepository.updateApproval(productId, ProductStatus.REJECTED, false) == 0)
+			throw new NoSuchElementException("상품이 존재하지 않습니다.");
+		publishChanged(productId);
 	}
 
 	// [admin] 승인 → 대기(PENDING) 상태로 변경
 	public void setPending(Long productId, Long adminId, String role) {
-		Product product = productRepository.findById(productId)
-				.orElseThrow(() -> new NoSuchElementException("상품이 존재하지 않습니다."));
-		product.setIsApproved(false);
-		product.setStatus(ProductStatus.PENDING);
-		productRepository.save(product);
+		// rejectProduct 와 같이 플래시 세일부터 종료
+		flashSaleService.disableIfActive(productId);
+		if (productRepository.updateApproval(productId, ProductStatus.PENDING, false) == 0)
+			throw new NoSuchElementException("상품이 존재하지 않습니다.");
+		publishChanged(productId);
 	}
 
-	// 전체 상품 조회
-	public List<Map<String, Object>> searchProducts(String keyword) {
+	// 전체 상품 조회 (메모리 색인 검색 후 요청 페이지만 DB 조회)
+	public List<ProductView> searchProducts(String keyword, boolean includeCategory, Integer page,
+			Integer size) {
 		validateKeyword(keyword);
-		return productRepository.findByNameContainingIgnoreCaseAndStatus(keyword, ProductStatus.APPROVED).stream()
-				.map(this::toMap).toList();
+		int[] ids = productSearchIndex.search(keyword, includeCategory, ProductStatus.APPROVED, null);
+		if (ids == null) {
+			List<ProductListRow> products = includeCategory
+					? productRepository.searchByKeywordProductOrCategory(keyword, ProductStatus.APPROVED)
+					: productRepository.findByNameContainingIgnoreCaseAndStatus(keyword, ProductStatus.APPROVED);
+			return toViewList(slice(products, page, size));
+		}
+		return toViewList(hydrate(ids, page, size));
 	}
 
 	// 판매자로 검색
-	public List<Map<String, Object>> findBySellerAndKeyword(Long userId, String keyword) {
+	public List<ProductView> findBySellerAndKeyword(Long userId, String keyword, Integer page, Integer size) {
 		validateKeyword(keyword);
-		return productRepository.findByUserIdAndNameContainingIgnoreCase(userId, keyword).stream().map(this::toMap)
-				.toList();
+		int[] ids = productSearchIndex.search(keyword, false, null, userId);
+		if (ids == null)
+			return toViewList(slice(productRepository.findByUserIdAndNameContainingIgnoreCase(userId, keyword), page, size));
+		return toViewList(hydrate(ids, page, size));
+	}
+
+	// 키워드는 역색인, 나머지 조건/정렬은 컬럼 스냅샷으로 처리한 id 목록. 둘 중 하나라도 준비 전이면 null
+	private int[] searchColumns(ProductSearchCondition condition, ProductSort sort, ProductCursor after, int limit) {
+		int[] candidates = keywordCandidates(condition);
+		if (candidates == NOT_READY)
+			return null;
+		return productColumns.search(condition, candidates, sort, after, limit);
+	}
+
+	// 키워드 색인 후보 (키워드가 없으면 null = 전체, 색인 적재 전이면 NOT_READY)
+	private int[] keywordCandidates(ProductSearchCondition condition) {
+		if (condition.keyword() == null || condition.keyword().isBlank())
+			return null;
+		int[] ids = productSearchIndex.search(condition.keyword(), false, ProductStatus.APPROVED, null);
+		return ids == null ? NOT_READY : ids;
+	}
+
+	// 검색 결과 id 중 요청 페이지만 조회 (id 순서 유지). page/size 가 없으면 전체
+	private List<ProductListRow> hydrate(int[] ids, Integer page, Integer size) {
+		int[] range = pageRange(ids.length, page, size);
+		List<Long> pageIds = new ArrayList<>(range[1] - range[0]);
+		for (int i = range[0]; i < range[1]; i++)
+			pageIds.add((long) ids[i]);
+		if (pageIds.isEmpty())
+			return List.of();
+		Map<Long, ProductListRow> byId = productRepository.findByProductIdIn(pageIds).stream()
+				.collect(Collectors.toMap(ProductListRow::productId, p -> p));
+		return pageIds.stream().map(byId::get).filter(p -> p != null).toList();
+	}
+
+	private <T> List<T> slice(List<T> list, Integer page, Integer size) {
+		int[] range = pageRange(list.size(), page, size);
+		return list.subList(range[0], range[1]);
+	}
+
+	private int[] pageRange(int total, Integer page, Integer size) {
+		if (page == null && size == null)
+			return new int[] { 0, total };
+		int perPage = size == null ? Pagination.PER_PAGE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+		int from = (int) Math.min((long) (page == null ? 0 : Math.max(page - 1, 0)) * perPage, total);
+		return new int[] { from, Math.min(from + perPage, total) };
 	}
 
-	// 자동 완성
+	// 자동 완성 (메모리 트라이, 준비 전에는 DB 조회)
 	public List<String> autocompleteProductNames(String prefix) {
 		validateKeyword(prefix);
-		return productRepository.findTop10ByNameStartingWithIgnoreCase(prefix).stream().map(Product::getName).toList();
+		List<String> names = productAutocomplete.complete(prefix);
+		if (names != null)
+			return names;
+		return productRepository.findTop10ByNameStartingWithIgnoreCase(prefix).stream().map(ProductListRow::name).toList();
 	}
 
 	// 필터 검색(금액/평점)
-	public List<Map<String, Object>> filterProducts(Long categoryId, int minPrice, int maxPrice, String status) {
+	public List<ProductView> filterProducts(Long categoryId, int minPrice, int maxPrice, String status) {
 		validateKeyword(status);
-		return productRepository.findByCategoryIdAndPriceBetweenAndStatus(categoryId, minPrice, maxPrice, status)
-				.stream().map(this::toMap).toList();
+		ProductStatus productStatus;
+		try {
+			productStatus = ProductStatus.valueOf(status.trim().toUpperCase());
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("잘못된 상품 상태입니다: " + status);
+		}
+		return toViewList(productRepository.findInCategoryTreeAndPriceBetweenAndStatus(categoryId, minPrice, maxPrice,
+				productStatus));
 	}
 
 	private void validateRequiredKeys(Map<String, Object> map, String... keys) {
@@ -362,126 +489,87 @@ public class ProductService {
 		}
 	}
 
-	private Map<String, Object> toMap(Product p) {
-		Map<String, Object> map = new LinkedHashMap<>();
-		List<String> categoryPath = getCategoryPath(p.getCategoryId());
-		String companyName = getUserCompanyName(p.getUserId());
-		List<Review> reviews = reviewRepository.findByProductId(p.getProductId())
-	            .orElse(Collections.emptyList());
-	    int reviewCount = reviews.size();
-	    double averageRating = 0.0;
-	    if (reviewCount > 0) {
-	        averageRating = reviews.stream().mapToInt(Review::getRating).average().orElse(0.0);
-	    }
-	    String url = "http://localhost:10000/api/users/" + p.getUserId();
-	    String userName = restTemplate.getForEntity(url, UserDto.class).getBody().getName();
-		map.put("productId", p.getProductId());
-		map.put("categoryId", p.getCategoryId());
-		map.put("userId", p.getUserId());
-		map.put("sellerAddressId", p.getSellerAddressId());
-		map.put("name", p.getName());
-		map.put("userName", userName);
-		map.put("description", p.getDescription());
-		map.put("price", p.getPrice());
-		map.put("discountPrice", p.getDiscountPrice());
-		map.put("stockQuantity", p.getStockQuantity());
-		map.put("image", p.getImage());
-		map.put("status", p.getStatus());
-		map.put("courierName", p.getCourierName());
-		map.put("shippingFee", p.getShippingFee());
-		map.put("reviewCount", p.getReviewCount());
-		map.put("salesCount", p.getSalesCount());
-		map.put("averageRating", p.getAverageRating());
-		map.put("addedAt", p.getAddedAt().toLocalDate());
-		map.put("categoryPath", categoryPath);
-		map.put("brand", companyName);
-
-		map.put("categoryName", !categoryPath.isEmpty() ? categoryPath.get(categoryPath.size() - 1) : "");
-		map.put("brandName", companyName);
-		
-		map.put("averageRating", averageRating);
-	    map.put("reviewCount", reviewCount);
-		return map;
+	// 목록 변환: 판매자/카테고리 정보는 목록 단위로 동시에 조회
+	private List<ProductView> toViewList(List<ProductListRow> products) {
+		ProductEnrichment enrichment = productEnricher.enrichRows(products);
+		return products.stream().map(enrichment::view).toList();
+	}
+
+	private ProductView toView(Product p) {
+		return productEnricher.enrich(List.of(p)).view(p);
 	}
 	
+	private void publishChanged(Product product) {
+		eventPublisher.publishEvent(new ProductChangedEvent(product.getProductId(), ProductSearchRow.of(product)));
+	}
+
+	// 쿼리로 바꾼 상품은 DB 에서 다시 읽어 알림 (엔티티 값은 오래됐을 수 있음)
+	private void publishChanged(Long productId) {
+		productRepository.findSearchRow(productId)
+				.ifPresent(row -> eventPublisher.publishEvent(new ProductChangedEvent(productId, row)));
+	}
+
+	// 리뷰 작성/수정/삭제 시 상품별 리뷰 집계(개수, 합계, 별점 분포, 평균) 증감 (없는 쪽은 null)
+	// 기존 리뷰 평점이 1~5 밖이면(과거 데이터) rebuildReviewStats 와 같이 개수/합계만 반영하고 분포는 건드리지 않음
+	@Transactional
+	public void applyReviewChange(Long productId, Integer addedRating, Integer removedRating) {
+		if (addedRating != null && !isValidRating(addedRating))
+			throw new IllegalArgumentException("평점은 1~5 사이여야 합니다.");
+		int[] histogramDelta = new int[6];
+		int countDelta = 0;
+		int sumDelta = 0;
+		if (addedRating != null) {
+			histogramDelta[addedRating]++;
+			countDelta++;
+			sumDelta += addedRating;
+		}
+		if (removedRating != null) {
+			if (isValidRating(removedRating))
+				histogramDelta[removedRating]--;
+			countDelta--;
+			sumDelta -= removedRating;
+		}
+		productRepository.applyReviewDelta(productId, countDelta, sumDelta,
+				histogramDelta[1], histogramDelta[2], histogramDelta[3], histogramDelta[4], histogramDelta[5]);
+		publishChanged(productId);
+	}
+
+	private static boolean isValidRating(int rating) {
+		return rating >= 1 && rating <= 5;
+	}
+
+	// [admin] review 테이블 기준으로 전체 리뷰 집계 재계산 (기존 데이터 보정용)
+	@Transactional
+	public int rebuildReviewStats() {
+		return productRepository.rebuildReviewStats();
+	}
+
 	// 단일 상품
-	public Map<String, Object> getProductById(Long productId) {
-		Product product = productRepository.findById(productId)
-				.orElseThrow(() -> new NoSuchElementException("상품이 없습니다."));
-		Map<String, Object> map = new HashMap<>();
-		map.put("productId", product.getProductId());
-		map.put("productName", product.getName()); // 이름 통일화
-		map.put("name", product.getName());
-		map.put("price", product.getPrice());
-		map.put("discountPrice", product.getDiscountPrice());
-		map.put("image", product.getImage());
-		map.put("shippingFee", product.getShippingFee());
-		return map;
-	}
-
-	public List<Map<String, Object>> getProductsByIds(List<Long> productIds) {
-		// 예시: JPA, MyBatis, 직접 쿼리 등
-		// select * from product where productId in (?,?,?)
-		return productRepository.findByProductIdIn(productIds).stream().map(product -> {
-			Map<String, Object> map = new HashMap<>();
-			map.put("productId", product.getProductId());
-			map.put("name", product.getName());
-			map.put("price", product.getPrice());
-			map.put("discountPrice", product.getDiscountPrice());
-			map.put("image", product.getImage());
-			map.put("shippingFee", product.getShippingFee());
-			// 필요한 값 추가
-			return map;
-		}).collect(Collectors.toList());
-	}
-
-	// 카테고리 경로화
+	public CartProductDetailView getProductById(Long productId) {
+		CartProductView product = cartProductCache.get(productId);
+		if (product == null)
+			throw new NoSuchElementException("상품이 없습니다.");
+		return CartProductDetailView.of(product);
+	}
+
+	// 장바구니/주문용 여러 상품 조회 (캐시에 없는 id만 DB 조회)
+	public List<CartProductView> getProductsByIds(List<Long> productIds) {
+		return cartProductCache.getAll(productIds);
+	}
+
+	// 카테고리 경로화 (메모리 스냅샷 사용)
 	private List<String> getCategoryPath(Long categoryId) {
-		List<String> path = new java.util.ArrayList<>();
-		Category cur = categoryRepository.findById(categoryId).orElse(null);
-		while (cur != null) {
-			path.add(0, cur.getName());
-			if (cur.getParentId() == null)
-				break;
-			cur = categoryRepository.findById(cur.getParentId()).orElse(null);
-		}
-		return path;
+		return categorySnapshotService.get().path(categoryId);
 	}
 
 	// 카테고리 팝업
 	public List<Map<String, Object>> getCategoryHierarchy() {
-		List<Category> all = categoryRepository.findAll();
-		// 대분류
-		List<Category> topList = all.stream().filter(c -> c.getParentId() == null).collect(Collectors.toList());
-
-		// 중분류 맵핑
-		List<Map<String, Object>> result = new ArrayList<>();
-		for (Category top : topList) {
-			Map<String, Object> map = new LinkedHashMap<>();
-			map.put("id", top.getCategoryId());
-			map.put("name", top.getName());
-			List<Map<String, Object>> children = all.stream()
-					.filter(sub -> top.getCategoryId().equals(sub.getParentId())).map(sub -> {
-						Map<String, Object> child = new LinkedHashMap<>();
-						child.put("id", sub.getCategoryId());
-						child.put("name", sub.getName());
-						return child;
-					}).collect(Collectors.toList());
-			map.put("children", children);
-			result.add(map);
-		}
-		return result;
+		return categorySnapshotService.get().hierarchy();
 	}
 
-	private String getUserCompanyName(Long userId) {
-		try {
-			String url = ApiEndpointConstants.USER_SERVICE_URL + "/" + userId;
-			Map<String, Object> userInfo = restTemplate.getForObject(url, Map.class);
-			if (userInfo != null && userInfo.get("companyName") != null)
-				return userInfo.get("companyName").toString();
-		} catch (Exception e) {
-		}
-		return "";
+	// [admin] 카테고리 변경 후 스냅샷 즉시 갱신
+	public void refreshCategories() {
+		categorySnapshotService.refresh();
 	}
 
 	public void writeQna(Map<String, Object> map) {
@@ -496,11 +584,6 @@ public class ProductService {
 	}
 
 	public List<Long> findBySellerId(Long userId) {
-		List<Long> result = new ArrayList();
-		List<Product> pList = productRepository.findAll();
-		for(Product p : pList) {
-			result.add(p.getProductId());
-		}
-		return result;
+		return productRepository.findAllProductIds();
 	}
 }
@@ -1,19 +1,28 @@
 package org.ezon.msa.service;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.ezon.msa.dto.CartProductView;
+import org.ezon.msa.dto.ReviewCursor;
+import org.ezon.msa.dto.ReviewScrollView;
+import org.ezon.msa.dto.ReviewSummary;
+import org.ezon.msa.dto.ReviewView;
+import org.ezon.msa.dto.UserReviewView;
 import org.ezon.msa.entity.Product;
 import org.ezon.msa.entity.Review;
+import org.ezon.msa.enums.ReviewSort;
+import org.ezon.msa.repository.ProductRepository;
 import org.ezon.msa.repository.ReviewRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import jakarta.transaction.Transactional;
@@ -23,67 +32,54 @@ public class ReviewService {
 	
     private final ReviewRepository reviewRepository;
     private final ProductService productService;
+    private final ProductRepository productRepository;
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_SUMMARY_IDS = 1000;
+    private final int pageSize;
     
-    public ReviewService(ReviewRepository reviewRepository, ProductService productService) {
+    public ReviewService(ReviewRepository reviewRepository, ProductService productService,
+    		ProductRepository productRepository,
+    		@Value("${product.review.pageSize:20}") int pageSize) {
     	this.reviewRepository = reviewRepository;
     	this.productService = productService;
+    	this.productRepository = productRepository;
+    	this.pageSize = pageSize;
     }
 
-	// 상품별 리뷰 목록 조회
-    public List<Map<String, Object>> findReviewsByProductIdAll(Long productId) {
-    	List<Review> reviews = reviewRepository.findByProductId(productId)
-                .orElse(Collections.emptyList());
-    	DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy.MM.dd");
+	// 상품별 리뷰 목록 조회 (커서 페이징, 리뷰 수와 무관하게 인덱스에서 한 페이지만 읽음)
+    public ReviewScrollView scrollReviewsByProductId(Long productId, String sort, String cursor, Integer size) {
+        ReviewSort reviewSort = ReviewSort.from(sort);
+        ReviewCursor after = cursor == null || cursor.isBlank() ? null : ReviewCursor.decode(reviewSort, cursor);
+        int limit = size == null ? pageSize : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
 
-        return reviews.stream().map(review -> {
-            Map<String, Object> map = new HashMap<>();
-            map.put("reviewId", review.getReviewId());
-            map.put("productId", review.getProductId());
-            map.put("orderItemId", review.getOrderItemId());
-            map.put("rating", review.getRating());
-            map.put("content", review.getContent());
-            map.put("image", review.getImage());
-            map.put("userId", review.getUserId());
-
-            // 날짜 포맷 적용
-            String formattedDate = review.getCreatedAt() != null
-                    ? review.getCreatedAt().toLocalDate().format(formatter)
-                    : "";
-            map.put("createdAt", formattedDate);
-
-            return map;
-        }).collect(Collectors.toList());
+        // 다음 페이지 존재 여부 확인용으로 한 건 더 조회
+        List<Review> rows = reviewRepository.scrollByProduct(productId, reviewSort, after, limit + 1);
+        boolean hasNext = rows.size() > limit;
+        if (hasNext)
+            rows = rows.subList(0, limit);
+
+        String nextCursor = hasNext ? ReviewCursor.after(reviewSort, rows.get(rows.size() - 1)).encode() : null;
+        return new ReviewScrollView(rows.stream().map(ReviewView::of).toList(), nextCursor, hasNext);
     }
     
 	// 사용자별 리뷰 목록 조회
-    public List<Map<String, Object>> getUserReviewListWithProductName(Long userId) {
+    public List<UserReviewView> getUserReviewListWithProductName(Long userId) {
         List<Review> reviews = reviewRepository.findByUserId(userId)
                 .orElse(Collections.emptyList());
 
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy.MM.dd");
+        // 상품 정보는 중복 없이 한 번에 조회 (캐시에 없는 것만 요약 쿼리 한 번)
+        Map<Long, CartProductView> products = productService
+                .getProductsByIds(reviews.stream().map(Review::getProductId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(CartProductView::productId, Function.identity()));
 
         return reviews.stream().map(review -> {
-            Map<String, Object> map = new HashMap<>();
-            map.put("reviewId", review.getReviewId());
-            map.put("productId", review.getProductId());
-            map.put("orderItemId", review.getOrderItemId());
-            map.put("rating", review.getRating());
-            map.put("content", review.getContent());
-            map.put("image", review.getImage());
-
-            // 날짜 포맷 적용
-            String formattedDate = review.getCreatedAt() != null
-                    ? review.getCreatedAt().toLocalDate().format(formatter)
-                    : "";
-            map.put("createdAt", formattedDate);
-
-            // 상품명 추가
-            Map<String, Object> product = productService.getProductById(review.getProductId());
-            map.put("productName", product.get("productName"));
-            map.put("productImage", product.get("image"));
-            map.put("productPrice", product.get("price"));
-
-            return map;
+            // 삭제된 상품이면 상품 정보 없이
+            CartProductView product = products.get(review.getProductId());
+            if (product == null)
+                return UserReviewView.of(review, null, null, null);
+            return UserReviewView.of(review, product.name(), product.image(), product.price());
         }).collect(Collectors.toList());
     }
 
@@ -91,6 +87,7 @@ public class ReviewService {
     
     
     // 리뷰 작성
+    @Transactional
     public void createReview(Map<String, Object> map) {
         System.err.println("-----------------");
         System.err.println(map.toString());
@@ -103,6 +100,7 @@ public class ReviewService {
         validateRequiredKeys(map, "user_id", "product_id", "order_item_id", "content", "image", "rating");
 
         Long orderItemId = toLong(map.get("order_item_id"));
+        int rating = validateRating(map.get("rating"));
 
         // 중복 리뷰 방지
         if (reviewRepository.existsByOrderItemId(orderItemId)) {
@@ -116,10 +114,11 @@ public class ReviewService {
             .content(map.get("content").toString())
             .image(map.get("image").toString())
             .createdAt(LocalDateTime.now())
-            .rating(toInt(map.get("rating")))
+            .rating(rating)
             .build();
 
         reviewRepository.save(review);
+        productService.applyReviewChange(review.getProductId(), rating, null);
         System.err.println(review);
     }
 
@@ -135,12 +134,17 @@ public class ReviewService {
         validateRequiredKeys(map, "review_id", "content", "image", "rating");
 
         Long reviewId = toLong(map.get("review_id"));
+        int rating = validateRating(map.get("rating"));
         Optional<Review> result = reviewRepository.findById(reviewId);
 
         result.ifPresent(saved -> {
+            int oldRating = saved.getRating();
             saved.setContent(map.get("content").toString());
             saved.setImage(map.get("image").toString());
-            saved.setRating(toInt(map.get("rating")));
+            saved.setRating(rating);
+            if (oldRating != rating) {
+                productService.applyReviewChange(saved.getProductId(), rating, oldRating);
+            }
         });
 
         return result;
@@ -152,6 +156,7 @@ public class ReviewService {
         Review review = reviewRepository.findById(reviewId)
         		.orElseThrow(() -> new NoSuchElementException("리뷰가 존재하지 않습니다."));
         reviewRepository.delete(review);
+        productService.applyReviewChange(review.getProductId(), null, review.getRating());
     }
     
     private void validateRequiredKeys(Map<String, Object> map, String... keys) {
@@ -162,6 +167,14 @@ public class ReviewService {
         }
     }
 
+    private int validateRating(Object value) {
+        int rating = toInt(value);
+        if (rating < 1 || rating > 5) {
+            throw new IllegalArgumentException("평점은 1~5 사이여야 합니다.");
+        }
+        return rating;
+    }
+
     private void validateSellerPermission(Long requesterId, Product product) {
         if (!product.getUserId().equals(requesterId)) {
             throw new SecurityException("본인의 상품만 접근할 수 있습니다.");
@@ -186,53 +199,24 @@ public class ReviewService {
         }
     }
     
-    private Map<String, Object> toMap(Review r) {
-        Map<String, Object> map = new LinkedHashMap<>();
-
-        map.put("reviewId", r.getReviewId());
-        map.put("userId", r.getUserId());
-        map.put("productId", r.getProductId());
-        map.put("content", r.getContent());
-        map.put("image", r.getImage());
-        map.put("createdAt", r.getCreatedAt());
-        map.put("rating", r.getRating());
-
-        return map;
-    }
-
     public List<Long> getReviewedOrderItemIds(Long userId) {
         return reviewRepository.findReviewedOrderItemIdsByUserId(userId);
     }
 //============================= 이정우    
-    public Map<String, Object> getReviewSummaryByProductId(Long productId) {
-        List<Review> reviews = reviewRepository.findByProductId(productId)
-                .orElse(Collections.emptyList());
-        int reviewCount = reviews.size();
-        double averageRating = 0.0;
-        if (reviewCount > 0) {
-            averageRating = reviews.stream().mapToInt(Review::getRating).average().orElse(0.0);
-        }
-        Map<String, Object> result = new HashMap<>();
-        result.put("averageRating", averageRating);
-        result.put("reviewCount", reviewCount);
-        return result;
-    }
-    
-    public Map<Long, Map<String, Object>> getReviewSummaryForProductIdList(List<Long> productIds) {
-        Map<Long, Map<String, Object>> result = new HashMap<>();
-        for (Long productId : productIds) {
-            List<Review> reviews = reviewRepository.findByProductId(productId)
-                    .orElse(Collections.emptyList());
-            int reviewCount = reviews.size();
-            double averageRating = 0.0;
-            if (reviewCount > 0) {
-                averageRating = reviews.stream().mapToInt(Review::getRating).average().orElse(0.0);
-            }
-            Map<String, Object> summary = new HashMap<>();
-            summary.put("averageRating", averageRating);
-            summary.put("reviewCount", reviewCount);
-            result.put(productId, summary);
-        }
+    // 상품 리뷰 요약 (개수/평균)
+    public ReviewSummary getReviewSummaryByProductId(Long productId) {
+        return getReviewSummaryForProductIdList(List.of(productId)).get(productId);
+    }
+
+    // 여러 상품 리뷰 요약. 상품마다 리뷰를 읽지 않고 저장된 집계를 한 번에 조회 (요청 순서, 없는 상품은 0건)
+    public Map<Long, ReviewSummary> getReviewSummaryForProductIdList(List<Long> productIds) {
+        if (productIds.size() > MAX_SUMMARY_IDS)
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 상품은 " + MAX_SUMMARY_IDS + "개까지입니다.");
+        Map<Long, ReviewSummary> found = productRepository.findReviewSummaries(new HashSet<>(productIds)).stream()
+                .collect(Collectors.toMap(ReviewSummary::productId, Function.identity()));
+        Map<Long, ReviewSummary> result = new LinkedHashMap<>();
+        for (Long productId : productIds)
+            result.put(productId, found.getOrDefault(productId, ReviewSummary.empty(productId)));
         return result;
     }
 }
@@ -0,0 +1,204 @@
+package org.ezon.msa.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.ezon.msa.dto.ProductSearchRow;
+import org.ezon.msa.dto.StockReservationView;
+import org.ezon.msa.entity.StockReservation;
+import org.ezon.msa.enums.ProductStatus;
+import org.ezon.msa.enums.ReservationStatus;
+import org.ezon.msa.event.ProductChangedEvent;
+import org.ezon.msa.flashsale.FlashSaleService;
+import org.ezon.msa.repository.ProductRepository;
+import org.ezon.msa.repository.StockReservationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 주문 재고 예약
+// - reserve: 주문의 모든 상품 재고를 한 번의 일괄 조건부 UPDATE 로 차감 (하나라도 부족하면 전체 취소)
+//   플래시 세일 상품은 FlashSaleService 의 메모리 카운터에서 차감
+// - commit: 주문 확정, release: 취소 (재고 복구)
+// - 확정/취소되지 않은 예약은 ttlSeconds 후 자동 취소
+@Service
+public class StockReservationService {
+
+	private static final int EXPIRE_BATCH = 100;
+
+	private final ProductRepository productRepository;
+	private final FlashSaleService flashSaleService;
+	private final EngagementCounters engagementCounters;
+	private final StockReservationRepository reservationRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final TransactionTemplate tx;
+	private final long ttlSeconds;
+
+	public StockReservationService(ProductRepository productRepository, FlashSaleService flashSaleService,
+			EngagementCounters engagementCounters,
+			StockReservationRepository reservationRepository, ApplicationEventPublisher eventPublisher,
+			PlatformTransactionManager transactionManager,
+			@Value("${product.reservation.ttlSeconds:900}") long ttlSeconds) {
+		this.productRepository = productRepository;
+		this.flashSaleService = flashSaleService;
+		this.engagementCounters = engagementCounters;
+		this.reservationRepository = reservationRepository;
+		this.eventPublisher = eventPublisher;
+		this.tx = new TransactionTemplate(transactionManager);
+		this.ttlSeconds = ttlSeconds;
+	}
+
+	// items: [{productId, quantity}, ...]
+	@SuppressWarnings("unchecked")
+	public StockReservationView reserve(Map<String, Object> map) {
+		Object items = map.get("items");
+		if (!(items instanceof List) || ((List<?>) items).isEmpty())
+			throw new IllegalArgumentException("필수값 누락: items");
+
+		// 같은 상품은 합치고 productId 순으로 정렬
+		SortedMap<Long, Integer> quantities = new TreeMap<>();
+		for (Object item : (List<Object>) items) {
+			if (!(item instanceof Map))
+				throw new IllegalArgumentException("잘못된 주문 항목입니다.");
+			Map<String, Object> line = (Map<String, Object>) item;
+			if (line.get("productId") == null || line.get("quantity") == null)
+				throw new IllegalArgumentException("필수값 누락: productId, quantity");
+			long productId = Long.parseLong(line.get("productId").toString());
+			int quantity = Integer.parseInt(line.get("quantity").toString());
+			if (quantity <= 0)
+				throw new IllegalArgumentException("수량은 1 이상이어야 합니다.");
+			quantities.merge(productId, quantity, Integer::sum);
+		}
+
+		UUID key = UUID.randomUUID();
+		String reservationKey = key.toString();
+		LocalDateTime now = LocalDateTime.now();
+		LocalDateTime expiresAt = now.plusSeconds(ttlSeconds);
+		tx.executeWithoutResult(status -> {
+			// 플래시 세일 상품은 메모리 카운터에서, 나머지는 DB 에서 차감 (롤백되면 카운터도 되돌려짐)
+			List<Long> failed = new ArrayList<>();
+			SortedMap<Long, Integer> dbQuantities = new TreeMap<>();
+			quantities.forEach((productId, quantity) -> {
+				switch (flashSaleService.take(productId, quantity, key)) {
+				case TAKEN -> {
+				}
+				case INSUFFICIENT -> failed.add(productId);
+				case INACTIVE -> dbQuantities.put(productId, quantity);
+				}
+			});
+			if (failed.isEmpty() && !dbQuantities.isEmpty()) {
+				productRepository.decrementStock(dbQuantities).forEach((productId, count) -> {
+					if (count == 0)
+						failed.add(productId);
+				});
+			}
+			if (!failed.isEmpty())
+				throw new IllegalStateException("재고가 부족하거나 판매중이 아닌 상품입니다: " + failed);
+
+			List<StockReservation> rows = new ArrayList<>(quantities.size());
+			quantities.forEach((productId, quantity) -> rows.add(StockReservation.builder()
+					.reservationKey(reservationKey)
+					.productId(productId)
+					.quantity(quantity)
+					.status(ReservationStatus.RESERVED)
+					.createdAt(now)
+					.expiresAt(expiresAt)
+					.build()));
+			reservationRepository.saveAll(rows);
+
+			// 이번 차감으로 품절된 상품만 목록/검색에 반영
+			if (!dbQuantities.isEmpty())
+				publishChanged(dbQuantities, ProductStatus.SOLD_OUT);
+		});
+		return new StockReservationView(reservationKey, ReservationStatus.RESERVED, expiresAt, quantities);
+	}
+
+	// 주문 확정 (만료 전이어야 함)
+	public StockReservationView commit(String reservationKey) {
+		StockReservationView committed = tx.execute(status -> {
+			int changed = reservationRepository.transitionIfNotExpired(reservationKey, ReservationStatus.RESERVED,
+					ReservationStatus.COMMITTED, LocalDateTime.now());
+			if (changed == 0)
+				throw notReserved(reservationKey);
+			return view(reservationKey);
+		});
+		// 판매수는 카운터에 모았다가 주기적으로 반영
+		committed.items().forEach(engagementCounters::recordSale);
+		return committed;
+	}
+
+	// 주문 취소: 예약 상태일 때만 재고 복구
+	public StockReservationView release(String reservationKey) {
+		return tx.execute(status -> {
+			int changed = reservationRepository.transition(reservationKey, ReservationStatus.RESERVED,
+					ReservationStatus.RELEASED);
+			if (changed == 0)
+				throw notReserved(reservationKey);
+			// 모든 상품을 이 트랜잭션에서 DB 재고로 복구 (플래시 세일 상품은 커밋 후 카운터에도 돌려줌)
+			SortedMap<Long, Integer> quantities = new TreeMap<>();
+			for (StockReservation row : reservationRepository.findByReservationKey(reservationKey)) {
+				quantities.merge(row.getProductId(), row.getQuantity(), Integer::sum);
+				flashSaleService.restoreAfterCommit(row.getProductId(), row.getQuantity());
+			}
+			productRepository.incrementStock(quantities);
+			publishChanged(quantities, null);
+			return view(reservationKey);
+		});
+	}
+
+	// 만료된 예약 자동 취소
+	@Scheduled(fixedDelayString = "${product.reservation.sweepMs:60000}", initialDelayString = "${product.reservation.sweepMs:60000}")
+	public int releaseExpired() {
+		int released = 0;
+		List<String> keys;
+		do {
+			keys = reservationRepository.findExpiredKeys(ReservationStatus.RESERVED, LocalDateTime.now(),
+					PageRequest.of(0, EXPIRE_BATCH));
+			for (String key : keys) {
+				try {
+					release(key);
+					released++;
+				} catch (IllegalStateException | NoSuchElementException e) {
+					// 그 사이 확정/취소됨
+				}
+			}
+		} while (keys.size() == EXPIRE_BATCH);
+		return released;
+	}
+
+	private StockReservationView view(String reservationKey) {
+		List<StockReservation> rows = reservationRepository.findByReservationKey(reservationKey);
+		SortedMap<Long, Integer> items = new TreeMap<>();
+		for (StockReservation row : rows)
+			items.merge(row.getProductId(), row.getQuantity(), Integer::sum);
+		StockReservation first = rows.get(0);
+		return new StockReservationView(reservationKey, first.getStatus(), first.getExpiresAt(), items);
+	}
+
+	private RuntimeException notReserved(String reservationKey) {
+		List<StockReservation> rows = reservationRepository.findByReservationKey(reservationKey);
+		if (rows.isEmpty())
+			return new NoSuchElementException("예약이 존재하지 않습니다.");
+		if (rows.get(0).getStatus() == ReservationStatus.RESERVED)
+			return new IllegalStateException("만료된 예약입니다.");
+		return new IllegalStateException("이미 처리된 예약입니다.");
+	}
+
+	// onlyStatus 가 null 이면 모든 상품, 아니면 그 상태가 된 상품만 변경 알림 (커밋 후 반영)
+	private void publishChanged(SortedMap<Long, Integer> quantities, ProductStatus onlyStatus) {
+		for (ProductSearchRow row : productRepository.findSearchRows(quantities.keySet())) {
+			if (onlyStatus == null || row.status() == onlyStatus)
+				eventPublisher.publishEvent(new ProductChangedEvent(row.productId(), row));
+		}
+	}
+}
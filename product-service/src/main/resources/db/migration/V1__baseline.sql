@@ -0,0 +1,43 @@
+-- 기준 스키마 (기존 엔티티로 ddl-auto=update 가 만들던 테이블과 동일)
+-- 기존 DB 는 baseline-on-migrate 로 이 버전을 건너뛰고 V2 부터 적용
+
+CREATE TABLE category (
+    category_id BIGINT NOT NULL AUTO_INCREMENT,
+    name        VARCHAR(50) NOT NULL,
+    parent_id   BIGINT,
+    PRIMARY KEY (category_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE product (
+    product_id        BIGINT NOT NULL AUTO_INCREMENT,
+    category_id       BIGINT NOT NULL,
+    user_id           BIGINT NOT NULL,
+    seller_address_id BIGINT NOT NULL,
+    name              VARCHAR(200) NOT NULL,
+    description       TEXT NOT NULL,
+    price             INTEGER NOT NULL,
+    discount_price    INTEGER NOT NULL,
+    stock_quantity    INTEGER NOT NULL,
+    image             TEXT NOT NULL,
+    status            ENUM ('APPROVED','HIDDEN','PENDING','REJECTED','SOLD_OUT'),
+    added_at          DATETIME(6) NOT NULL,
+    review_count      INTEGER NOT NULL,
+    sales_count       INTEGER NOT NULL,
+    courier_name      VARCHAR(100) NOT NULL,
+    shipping_fee      INTEGER NOT NULL,
+    is_approved       BIT NOT NULL,
+    average_rating    FLOAT(53) NOT NULL,
+    PRIMARY KEY (product_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE review (
+    review_id     BIGINT NOT NULL AUTO_INCREMENT,
+    user_id       BIGINT NOT NULL,
+    product_id    BIGINT NOT NULL,
+    order_item_id BIGINT NOT NULL,
+    content       TEXT NOT NULL,
+    image         TEXT,
+    created_at    DATETIME(6) NOT NULL,
+    rating        INTEGER NOT NULL,
+    PRIMARY KEY (review_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,51 @@
+-- 기준 스키마 이후 추가된 컬럼/테이블/인덱스
+-- 기존 행이 있는 테이블에 NOT NULL 컬럼을 붙이므로 기본값 0 (리뷰 집계는 V4 에서 review 기준으로 채움)
+
+-- 리뷰 집계 (합계, 별점 분포), 조회수
+ALTER TABLE product
+    ADD COLUMN view_count    BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN rating_sum    BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN rating1_count INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN rating2_count INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN rating3_count INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN rating4_count INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN rating5_count INTEGER NOT NULL DEFAULT 0;
+
+-- 목록 정렬/키셋 페이징용 (status 조건 + 정렬 키 + product_id)
+CREATE INDEX idx_product_status_price ON product (status, price, product_id);
+CREATE INDEX idx_product_status_rating ON product (status, average_rating, product_id);
+CREATE INDEX idx_product_status_added ON product (status, added_at, product_id);
+
+-- 상품별 리뷰 목록 (최신순, 별점순)
+CREATE INDEX idx_review_product_created ON review (product_id, created_at, review_id);
+CREATE INDEX idx_review_product_rating ON review (product_id, rating, review_id);
+
+-- 카테고리 중첩 구간 (CategorySnapshotService 가 기동/갱신 시 채움)
+ALTER TABLE category
+    ADD COLUMN lft INTEGER,
+    ADD COLUMN rgt INTEGER;
+
+CREATE INDEX idx_category_lft ON category (lft);
+
+-- 재고 예약
+CREATE TABLE stock_reservation (
+    stock_reservation_id BIGINT NOT NULL AUTO_INCREMENT,
+    reservation_key      VARCHAR(36) NOT NULL,
+    product_id           BIGINT NOT NULL,
+    quantity             INTEGER NOT NULL,
+    status               ENUM ('COMMITTED','RELEASED','RESERVED') NOT NULL,
+    created_at           DATETIME(6) NOT NULL,
+    expires_at           DATETIME(6) NOT NULL,
+    PRIMARY KEY (stock_reservation_id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_stock_reservation_key ON stock_reservation (reservation_key);
+CREATE INDEX idx_stock_reservation_status_expires ON stock_reservation (status, expires_at);
+
+-- 플래시 세일 진행 중인 상품 (메모리 재고 카운터의 DB 반영 위치)
+CREATE TABLE flash_sale (
+    product_id  BIGINT NOT NULL,
+    applied_seq BIGINT NOT NULL,
+    started_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (product_id)
+) ENGINE = InnoDB;
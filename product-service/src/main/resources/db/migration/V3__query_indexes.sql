@@ -0,0 +1,15 @@
+-- 저장소 조회별 복합 인덱스 (QueryPlanTest 가 EXPLAIN 으로 사용 여부 확인)
+
+-- 카테고리(하위 포함) 목록, 카테고리+가격 필터, 통합 검색 (status, category 동등 조건 + 가격 범위)
+-- ProductRepository.findInCategoryTree*, searchProductsAll, searchSorted(categoryId 있을 때)
+CREATE INDEX idx_product_status_category_price ON product (status, category_id, price, average_rating);
+
+-- 판매자 상품 목록 (findByUserId, findByUserIdAndCategoryId*)
+CREATE INDEX idx_product_user_category ON product (user_id, category_id);
+
+-- 내가 쓴 리뷰, 리뷰 작성한 주문 상품 (ReviewRepository.findByUserId, findReviewedOrderItemIdsByUserId)
+CREATE INDEX idx_review_user_order_item ON review (user_id, order_item_id);
+
+-- 주문 상품 하나에 리뷰 하나 (existsByOrderItemId 도 이 인덱스로 조회)
+-- 기존 데이터에 중복이 있으면 실패하므로 먼저 정리해야 함
+ALTER TABLE review ADD CONSTRAINT uk_review_order_item UNIQUE (order_item_id);
@@ -0,0 +1,18 @@
+-- 상품별 리뷰 집계(개수, 합계, 별점 분포, 평균)를 review 테이블 기준으로 채움
+-- 기준 스키마에서는 리뷰 작성 시 집계를 갱신하지 않았으므로 V2 에서 0 으로 붙은 값을 한 번 맞춤
+-- (ProductRepository.rebuildReviewStats 와 같은 계산)
+UPDATE product p
+LEFT JOIN (
+    SELECT product_id, COUNT(*) AS cnt, SUM(rating) AS total,
+           SUM(rating = 1) AS r1, SUM(rating = 2) AS r2, SUM(rating = 3) AS r3,
+           SUM(rating = 4) AS r4, SUM(rating = 5) AS r5
+    FROM review GROUP BY product_id
+) r ON r.product_id = p.product_id
+SET p.average_rating = COALESCE(r.total / r.cnt, 0),
+    p.review_count = COALESCE(r.cnt, 0),
+    p.rating_sum = COALESCE(r.total, 0),
+    p.rating1_count = COALESCE(r.r1, 0),
+    p.rating2_count = COALESCE(r.r2, 0),
+    p.rating3_count = COALESCE(r.r3, 0),
+    p.rating4_count = COALESCE(r.r4, 0),
+    p.rating5_count = COALESCE(r.r5, 0);
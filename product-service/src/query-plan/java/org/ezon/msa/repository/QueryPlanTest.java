@@ -0,0 +1,275 @@
+package org.ezon.msa.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import org.ezon.msa.dto.ProductCursor;
+import org.ezon.msa.dto.ProductSearchCondition;
+import org.ezon.msa.enums.ProductSort;
+import org.ezon.msa.enums.ProductStatus;
+import org.ezon.msa.enums.ReservationStatus;
+import org.ezon.msa.enums.ReviewSort;
+import org.ezon.msa.service.CategorySnapshotService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.mysql.cj.MysqlConnection;
+import com.mysql.cj.Query;
+import com.mysql.cj.interceptors.QueryInterceptor;
+import com.mysql.cj.log.Log;
+import com.mysql.cj.protocol.Resultset;
+import com.mysql.cj.protocol.ServerSession;
+
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+
+// 저장소 조회가 의도한 인덱스를 쓰는지 확인 (mvn -Pquery-plan test)
+// - 내장 MariaDB 에 Flyway 마이그레이션 적용 + 엔티티 검증(ddl-auto=validate) 후 데이터 적재
+// - 저장소 메서드를 실제로 호출해 드라이버가 보낸 SQL(값 포함)을 잡고, 같은 SQL 을 EXPLAIN
+// - 인덱스 이름이 계획의 key 에 없으면 실패
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest {
+
+	private static final int PRODUCTS = 20_000;
+	private static final int REVIEWS = 20_000;
+	private static final int RESERVATIONS = 5_000;
+	private static final int SELLERS = 200;
+	private static final int REVIEWERS = 500;
+
+	private static DB db;
+
+	@DynamicPropertySource
+	static void datasource(DynamicPropertyRegistry registry) throws Exception {
+		DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+		config.setPort(0);
+		config.addArg("--user=root");
+		db = DB.newEmbeddedDB(config.build());
+		db.start();
+		db.createDB("ezon");
+		String url = "jdbc:mysql://localhost:" + config.getPort() + "/ezon?queryInterceptors="
+				+ SqlRecorder.class.getName();
+		registry.add("spring.datasource.url", () -> url);
+		registry.add("spring.datasource.username", () -> "root");
+		registry.add("spring.datasource.password", () -> "");
+		registry.add("product.flashsale.journalPath",
+				() -> Path.of("target/query-plan/flash-sale.journal").toAbsolutePath().toString());
+	}
+
+	@AfterAll
+	static void stop() throws Exception {
+		if (db != null)
+			db.stop();
+	}
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private ProductRepository productRepository;
+	@Autowired
+	private ReviewRepository reviewRepository;
+	@Autowired
+	private StockReservationRepository stockReservationRepository;
+	@Autowired
+	private CategorySnapshotService categorySnapshotService;
+
+	private long rootCategoryId;
+	private long leafCategoryId;
+
+	@BeforeAll
+	void seed() {
+		Random random = new Random(42);
+		// 대분류 10 x 중분류 10
+		List<Long> leaves = new ArrayList<>();
+		for (int root = 0; root < 10; root++) {
+			jdbcTemplate.update("INSERT INTO category (name) VALUES (?)", "root" + root);
+			long rootId = jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class);
+			if (root == 0)
+				rootCategoryId = rootId;
+			for (int child = 0; child < 10; child++) {
+				jdbcTemplate.update("INSERT INTO category (name, parent_id) VALUES (?, ?)", "c" + root + "-" + child,
+						rootId);
+				leaves.add(jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class));
+			}
+		}
+		leafCategoryId = leaves.get(0);
+		// lft/rgt 계산 후 저장
+		categorySnapshotService.refresh();
+
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		List<Object[]> products = new ArrayList<>();
+		for (int i = 0; i < PRODUCTS; i++) {
+			String status = random.nextInt(10) == 0 ? "PENDING" : "APPROVED";
+			products.add(new Object[] { leaves.get(random.nextInt(leaves.size())), 1 + random.nextInt(SELLERS),
+					"product " + i, 1000 * (1 + random.nextInt(200)), status,
+					Timestamp.valueOf(LocalDateTime.now().minusMinutes(random.nextInt(100_000))),
+					random.nextInt(11) / 2.0 });
+		}
+		jdbcTemplate.batchUpdate("""
+				INSERT INTO product (category_id, user_id, seller_address_id, name, description, price, discount_price,
+				    stock_quantity, image, status, added_at, review_count, sales_count, view_count, courier_name,
+				    shipping_fee, is_approved, average_rating, rating_sum, rating1_count, rating2_count,
+				    rating3_count, rating4_count, rating5_count)
+				VALUES (?, ?, 1, ?, 'description', ?, 0, 10, 'image', ?, ?, 0, 0, 0, 'courier', 0, 1, ?, 0, 0, 0, 0,
+				    0, 0)
+				""", products);
+
+		List<Object[]> reviews = new ArrayList<>();
+		for (int i = 0; i < REVIEWS; i++)
+			reviews.add(new Object[] { 1 + random.nextInt(REVIEWERS), 1 + random.nextInt(PRODUCTS), 100_000 + i,
+					Timestamp.valueOf(LocalDateTime.now().minusMinutes(random.nextInt(100_000))),
+					1 + random.nextInt(5) });
+		jdbcTemplate.batchUpdate("""
+				INSERT INTO review (user_id, product_id, order_item_id, content, created_at, rating)
+				VALUES (?, ?, ?, 'content', ?, ?)
+				""", reviews);
+
+		List<Object[]> reservations = new ArrayList<>();
+		for (int i = 0; i < RESERVATIONS; i++)
+			reservations.add(new Object[] { "key-" + i, 1 + random.nextInt(PRODUCTS),
+					random.nextInt(20) == 0 ? "RESERVED" : "COMMITTED", now,
+					Timestamp.valueOf(LocalDateTime.now().plusMinutes(random.nextInt(60) - 30)) });
+		jdbcTemplate.batchUpdate("""
+				INSERT INTO stock_reservation (reservation_key, product_id, quantity, status, created_at, expires_at)
+				VALUES (?, ?, 1, ?, ?, ?)
+				""", reservations);
+
+		jdbcTemplate.execute("ANALYZE TABLE category, product, review, stock_reservation");
+	}
+
+	@Test
+	void sellerProducts() {
+		assertUsesIndex(() -> productRepository.findByUserId(17L), "idx_product_user_category");
+		assertUsesIndex(() -> productRepository.findByUserIdAndCategoryId(17L, leafCategoryId),
+				"idx_product_user_category");
+	}
+
+	@Test
+	void categoryTree() {
+		assertUsesIndex(() -> productRepository.findInCategoryTreeAndStatus(rootCategoryId, ProductStatus.APPROVED),
+				"idx_product_status_category_price");
+		assertUsesIndex(() -> productRepository.findInCategoryTreeAndPriceBetweenAndStatus(leafCategoryId, 10_000,
+				20_000, ProductStatus.APPROVED), "idx_product_status_category_price");
+	}
+
+	@Test
+	void filteredSearch() {
+		assertUsesIndex(() -> productRepository.searchProductsAll(null, leafCategoryId, 10_000, 50_000, 3.0,
+				ProductStatus.APPROVED), "idx_product_status_category_price");
+		assertUsesIndex(() -> productRepository.searchSorted(new ProductSearchCondition(null, leafCategoryId, 10_000,
+				50_000, null, ProductStatus.APPROVED), ProductSort.PRICE_ASC, null, 21),
+				"idx_product_status_category_price");
+	}
+
+	@Test
+	void sortedListing() {
+		ProductSearchCondition approved = new ProductSearchCondition(null, null, null, null, null,
+				ProductStatus.APPROVED);
+		assertUsesIndex(() -> productRepository.searchSorted(approved, ProductSort.NEWEST, null, 21),
+				"idx_product_status_added");
+		assertUsesIndex(() -> productRepository.searchSorted(approved, ProductSort.PRICE_DESC,
+				new ProductCursor(ProductSort.PRICE_DESC, 50_000, 1000L), 21), "idx_product_status_price");
+		assertUsesIndex(() -> productRepository.searchSorted(approved, ProductSort.RATING_DESC, null, 21),
+				"idx_product_status_rating");
+	}
+
+	@Test
+	void productReviews() {
+		assertUsesIndex(() -> reviewRepository.findByProductId(123L), "idx_review_product_created",
+				"idx_review_product_rating");
+		assertUsesIndex(() -> reviewRepository.scrollByProduct(123L, ReviewSort.NEWEST, null, 21),
+				"idx_review_product_created");
+		assertUsesIndex(() -> reviewRepository.scrollByProduct(123L, ReviewSort.RATING_DESC, null, 21),
+				"idx_review_product_rating");
+	}
+
+	@Test
+	void userReviews() {
+		assertUsesIndex(() -> reviewRepository.findByUserId(42L), "idx_review_user_order_item");
+		assertUsesIndex(() -> reviewRepository.findReviewedOrderItemIdsByUserId(42L), "idx_review_user_order_item");
+		assertUsesIndex(() -> reviewRepository.existsByOrderItemId(100_123L), "uk_review_order_item");
+	}
+
+	@Test
+	void stockReservations() {
+		assertUsesIndex(() -> stockReservationRepository.findByReservationKey("key-77"), "idx_stock_reservation_key");
+		assertUsesIndex(() -> stockReservationRepository.findExpiredKeys(ReservationStatus.RESERVED,
+				LocalDateTime.now(), PageRequest.of(0, 100)), "idx_stock_reservation_status_expires");
+	}
+
+	// 호출 중 실행된 SELECT 들의 실행 계획 중 하나라도 지정한 인덱스를 써야 함
+	private void assertUsesIndex(Runnable call, String... indexes) {
+		List<String> statements = SqlRecorder.record(call);
+		assertThat(statements).as("실행된 조회").isNotEmpty();
+		for (String sql : statements) {
+			List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql);
+			assertThat(plan).as("%s%n%s", sql, plan).anyMatch(row -> Arrays.asList(indexes).contains(row.get("key")));
+		}
+	}
+
+	// 드라이버가 보내는 SELECT 를 값이 채워진 형태로 기록 (record 호출 중인 스레드만)
+	public static class SqlRecorder implements QueryInterceptor {
+
+		private static final ThreadLocal<List<String>> RECORDING = new ThreadLocal<>();
+
+		static List<String> record(Runnable call) {
+			List<String> statements = new ArrayList<>();
+			RECORDING.set(statements);
+			try {
+				call.run();
+			} finally {
+				RECORDING.remove();
+			}
+			return statements;
+		}
+
+		@Override
+		public QueryInterceptor init(MysqlConnection conn, Properties props, Log log) {
+			return this;
+		}
+
+		@Override
+		public <T extends Resultset> T preProcess(Supplier<String> sql, Query interceptedQuery) {
+			List<String> statements = RECORDING.get();
+			if (statements != null) {
+				String statement = sql.get();
+				if (statement != null && statement.stripLeading().regionMatches(true, 0, "select", 0, 6))
+					statements.add(statement);
+			}
+			return null;
+		}
+
+		@Override
+		public boolean executeTopLevelOnly() {
+			return true;
+		}
+
+		@Override
+		public void destroy() {
+		}
+
+		@Override
+		public <T extends Resultset> T postProcess(Supplier<String> sql, Query interceptedQuery, T originalResultSet,
+				ServerSession serverSession) {
+			return null;
+		}
+	}
+}
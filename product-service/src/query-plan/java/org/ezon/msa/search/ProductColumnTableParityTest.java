@@ -0,0 +1,226 @@
+package org.ezon.msa.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.ezon.msa.dto.ProductCursor;
+import org.ezon.msa.dto.ProductListRow;
+import org.ezon.msa.dto.ProductSearchCondition;
+import org.ezon.msa.dto.ProductSearchRow;
+import org.ezon.msa.enums.ProductSort;
+import org.ezon.msa.enums.ProductStatus;
+import org.ezon.msa.repository.ProductRepository;
+import org.ezon.msa.service.CategorySnapshotService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+
+// 메모리 컬럼 테이블 검색(상위 k 힙, 커서 이어보기, 병렬 구간 병합)이 DB 조회(searchSorted)와 같은 순서를 내는지 확인
+// - 가격/평점/등록일 값을 몇 개로 제한해 정렬 키가 같은 행(productId 로 순서 결정)을 많이 만듦
+// - 순차(parallelThreshold 최대)와 병렬(1) 두 경로 모두 비교
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ProductColumnTableParityTest {
+
+	private static final int PRODUCTS = 1_000;
+	private static final int PAGE_SIZE = 7;
+	private static final int[] THRESHOLDS = { Integer.MAX_VALUE, 1 };
+
+	private static DB db;
+
+	@DynamicPropertySource
+	static void datasource(DynamicPropertyRegistry registry) throws Exception {
+		DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+		config.setPort(0);
+		config.addArg("--user=root");
+		db = DB.newEmbeddedDB(config.build());
+		db.start();
+		db.createDB("ezon");
+		registry.add("spring.datasource.url", () -> "jdbc:mysql://localhost:" + config.getPort() + "/ezon");
+		registry.add("spring.datasource.username", () -> "root");
+		registry.add("spring.datasource.password", () -> "");
+		registry.add("product.flashsale.journalPath",
+				() -> Path.of("target/query-plan/parity-flash-sale.journal").toAbsolutePath().toString());
+	}
+
+	@AfterAll
+	static void stop() throws Exception {
+		if (db != null)
+			db.stop();
+	}
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private ProductRepository productRepository;
+	@Autowired
+	private CategorySnapshotService categorySnapshotService;
+
+	private ProductColumnTable table;
+	private List<ProductSearchCondition> conditions;
+	private List<Long> allIds;
+
+	@BeforeAll
+	void seed() {
+		Random random = new Random(7);
+		// 대분류 3 x 중분류 3, 상품은 대분류/중분류 어디에나
+		List<Long> categories = new ArrayList<>();
+		long rootId = 0;
+		long leafId = 0;
+		for (int root = 0; root < 3; root++) {
+			jdbcTemplate.update("INSERT INTO category (name) VALUES (?)", "root" + root);
+			long id = jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class);
+			categories.add(id);
+			if (root == 0)
+				rootId = id;
+			for (int child = 0; child < 3; child++) {
+				jdbcTemplate.update("INSERT INTO category (name, parent_id) VALUES (?, ?)", "c" + root + "-" + child, id);
+				categories.add(jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class));
+			}
+		}
+		leafId = categories.get(1);
+		categorySnapshotService.refresh();
+
+		LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+		List<Object[]> products = new ArrayList<>();
+		for (int i = 0; i < PRODUCTS; i++) {
+			products.add(new Object[] { categories.get(random.nextInt(categories.size())), "product " + i,
+					1000 * (1 + random.nextInt(10)), random.nextInt(10) == 0 ? "PENDING" : "APPROVED",
+					Timestamp.valueOf(base.plusDays(random.nextInt(30))), random.nextInt(6) * 1.0 });
+		}
+		jdbcTemplate.batchUpdate("""
+				INSERT INTO product (category_id, user_id, seller_address_id, name, description, price, discount_price,
+				    stock_quantity, image, status, added_at, review_count, sales_count, view_count, courier_name,
+				    shipping_fee, is_approved, average_rating, rating_sum, rating1_count, rating2_count,
+				    rating3_count, rating4_count, rating5_count)
+				VALUES (?, 1, 1, ?, 'description', ?, 0, 10, 'image', ?, ?, 0, 0, 0, 'courier', 0, 1, ?, 0, 0, 0, 0,
+				    0, 0)
+				""", products);
+
+		table = new ProductColumnTable();
+		table.useCategories(categorySnapshotService.get());
+		List<ProductSearchRow> rows = productRepository.findAllSearchRows();
+		rows.forEach(table::upsert);
+		allIds = rows.stream().map(ProductSearchRow::productId).sorted().toList();
+
+		// 적재 후 판매 중지된 상품은 칸을 비움 (마지막 칸을 옮겨 채우는 경로)
+		List<Long> stopped = allIds.subList(0, 50);
+		jdbcTemplate.update("UPDATE product SET status = 'PENDING' WHERE product_id <= ?", stopped.get(49));
+		productRepository.findSearchRows(stopped).forEach(table::upsert);
+
+		conditions = List.of(
+				condition(null, null, null, null),
+				condition(rootId, null, null, null),
+				condition(leafId, 3000, 7000, null),
+				condition(null, null, null, 4.0),
+				// 맞는 상품 없음
+				condition(null, 20_000, null, null));
+	}
+
+	@Test
+	void fullListMatchesDatabaseOrder() {
+		for (ProductSort sort : ProductSort.values()) {
+			for (ProductSearchCondition condition : conditions) {
+				List<Long> expected = ids(productRepository.searchSorted(condition, sort, null, 0));
+				for (int threshold : THRESHOLDS) {
+					assertThat(ids(table.search(condition, null, sort, null, 0, threshold, null)))
+							.as("%s %s threshold=%d", sort, condition, threshold)
+							.isEqualTo(expected);
+					assertThat(ids(table.search(condition, null, sort, null, 25, threshold, null)))
+							.as("%s %s top 25 threshold=%d", sort, condition, threshold)
+							.isEqualTo(expected.subList(0, Math.min(25, expected.size())));
+				}
+			}
+		}
+	}
+
+	@Test
+	void cursorPagesMatchDatabasePages() {
+		for (ProductSort sort : ProductSort.values()) {
+			for (ProductSearchCondition condition : conditions) {
+				ProductCursor cursor = null;
+				while (true) {
+					List<ProductListRow> page = productRepository.searchSorted(condition, sort, cursor, PAGE_SIZE);
+					for (int threshold : THRESHOLDS) {
+						assertThat(ids(table.search(condition, null, sort, cursor, PAGE_SIZE, threshold, null)))
+								.as("%s %s after %s threshold=%d", sort, condition, cursor, threshold)
+								.isEqualTo(ids(page));
+					}
+					if (page.size() < PAGE_SIZE)
+						break;
+					cursor = ProductCursor.after(sort, page.get(page.size() - 1));
+				}
+			}
+		}
+	}
+
+	@Test
+	void candidatesKeepDatabaseOrder() {
+		// 키워드 색인 결과처럼 일부 id (판매 중지/없는 상품 포함)
+		int[] candidates = allIds.stream().filter(id -> id % 3 == 0).mapToInt(Long::intValue).toArray();
+		candidates = Arrays.copyOf(candidates, candidates.length + 1);
+		candidates[candidates.length - 1] = 999_999;
+		Set<Long> candidateSet = new HashSet<>();
+		for (int id : candidates)
+			candidateSet.add((long) id);
+
+		for (ProductSort sort : ProductSort.values()) {
+			for (ProductSearchCondition condition : conditions) {
+				List<Long> expected = ids(productRepository.searchSorted(condition, sort, null, 0)).stream()
+						.filter(candidateSet::contains)
+						.toList();
+				for (int threshold : THRESHOLDS) {
+					assertThat(ids(table.search(condition, candidates, sort, null, 0, threshold, null)))
+							.as("%s %s threshold=%d", sort, condition, threshold)
+							.isEqualTo(expected);
+					assertThat(ids(table.search(condition, candidates, sort, null, 10, threshold, null)))
+							.isEqualTo(expected.subList(0, Math.min(10, expected.size())));
+				}
+			}
+		}
+	}
+
+	@Test
+	void emptyTableReturnsNothing() {
+		ProductColumnTable empty = new ProductColumnTable();
+		empty.useCategories(categorySnapshotService.get());
+		for (ProductSort sort : ProductSort.values()) {
+			for (int threshold : THRESHOLDS) {
+				assertThat(empty.search(conditions.get(0), null, sort, null, 0, threshold, null)).isEmpty();
+				assertThat(empty.search(conditions.get(1), new int[] { 1, 2 }, sort, null, 10, threshold, null))
+						.isEmpty();
+			}
+		}
+	}
+
+	private static ProductSearchCondition condition(Long categoryId, Integer minPrice, Integer maxPrice,
+			Double minRating) {
+		return new ProductSearchCondition(null, categoryId, minPrice, maxPrice, minRating, ProductStatus.APPROVED);
+	}
+
+	private static List<Long> ids(List<ProductListRow> rows) {
+		return rows.stream().map(ProductListRow::productId).toList();
+	}
+
+	private static List<Long> ids(int[] ids) {
+		return Arrays.stream(ids).mapToObj(id -> (long) id).toList();
+	}
+}
@@ -0,0 +1,105 @@
+package org.ezon.msa.flashsale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FlashSaleJournalTest {
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void readsBackAppendedEntries() throws Exception {
+		Path path = dir.resolve("data/flash-sale.journal");
+		List<FlashSaleJournal.Entry> written = List.of(entry(1, FlashSaleJournal.TAKE, -2), entry(2, FlashSaleJournal.UNDO, 2),
+				entry(3, FlashSaleJournal.TAKE, -1));
+		try (FlashSaleJournal journal = new FlashSaleJournal(path)) {
+			for (FlashSaleJournal.Entry entry : written)
+				journal.append(entry);
+			journal.sync(3);
+		}
+
+		try (FlashSaleJournal journal = new FlashSaleJournal(path)) {
+			assertThat(journal.readAll()).containsExactlyElementsOf(written);
+		}
+	}
+
+	@Test
+	void dropsTornTailAndAppendsAfterIt() throws Exception {
+		Path path = dir.resolve("flash-sale.journal");
+		try (FlashSaleJournal journal = new FlashSaleJournal(path)) {
+			journal.append(entry(1, FlashSaleJournal.TAKE, -1));
+			journal.append(entry(2, FlashSaleJournal.TAKE, -2));
+			journal.sync(2);
+		}
+		long complete = Files.size(path);
+		// 쓰는 중 중단된 레코드
+		Files.write(path, new byte[] { 1, 0, 0, 0, 0, 0, 0, 0, 3, 9 }, StandardOpenOption.APPEND);
+
+		try (FlashSaleJournal journal = new FlashSaleJournal(path)) {
+			assertThat(journal.readAll()).extracting(FlashSaleJournal.Entry::seq).containsExactly(1L, 2L);
+			assertThat(Files.size(path)).isEqualTo(complete);
+			journal.append(entry(3, FlashSaleJournal.TAKE, -3));
+			journal.sync(3);
+		}
+
+		try (FlashSaleJournal journal = new FlashSaleJournal(path)) {
+			assertThat(journal.readAll()).extracting(FlashSaleJournal.Entry::seq).containsExactly(1L, 2L, 3L);
+		}
+	}
+
+	@Test
+	void stopsAtRecordWithBadChecksum() throws Exception {
+		Path path = dir.resolve("flash-sale.journal");
+		try (FlashSaleJournal journal = new FlashSaleJournal(path)) {
+			journal.append(entry(1, FlashSaleJournal.TAKE, -1));
+			journal.sync(1);
+		}
+		long recordSize = Files.size(path);
+		try (FlashSaleJournal journal = new FlashSaleJournal(path)) {
+			journal.readAll();
+			journal.append(entry(2, FlashSaleJournal.TAKE, -2));
+			journal.append(entry(3, FlashSaleJournal.TAKE, -3));
+			journal.sync(3);
+		}
+		// 두 번째 레코드의 delta 한 바이트를 바꿈
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+			channel.write(ByteBuffer.wrap(new byte[] { 0x7f }), recordSize + 1 + 8 + 8);
+		}
+
+		try (FlashSaleJournal journal = new FlashSaleJournal(path)) {
+			assertThat(journal.readAll()).extracting(FlashSaleJournal.Entry::seq).containsExactly(1L);
+			assertThat(Files.size(path)).isEqualTo(recordSize);
+		}
+	}
+
+	@Test
+	void truncateEmptiesJournal() throws Exception {
+		Path path = dir.resolve("flash-sale.journal");
+		try (FlashSaleJournal journal = new FlashSaleJournal(path)) {
+			journal.append(entry(1, FlashSaleJournal.TAKE, -1));
+			journal.sync(1);
+			journal.truncate();
+			journal.append(entry(2, FlashSaleJournal.TAKE, -2));
+			journal.sync(2);
+		}
+
+		try (FlashSaleJournal journal = new FlashSaleJournal(path)) {
+			assertThat(journal.readAll()).extracting(FlashSaleJournal.Entry::seq).containsExactly(2L);
+		}
+	}
+
+	private static FlashSaleJournal.Entry entry(long seq, byte type, int delta) {
+		return new FlashSaleJournal.Entry(seq, type, 7L, delta, UUID.randomUUID());
+	}
+}
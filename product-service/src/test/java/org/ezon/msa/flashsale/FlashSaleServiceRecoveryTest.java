@@ -0,0 +1,141 @@
+package org.ezon.msa.flashsale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.ezon.msa.entity.FlashSale;
+import org.ezon.msa.entity.Product;
+import org.ezon.msa.enums.ProductStatus;
+import org.ezon.msa.repository.FlashSaleRepository;
+import org.ezon.msa.repository.ProductRepository;
+import org.ezon.msa.repository.StockReservationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class FlashSaleServiceRecoveryTest {
+
+	private static final long PRODUCT_ID = 7L;
+
+	@TempDir
+	Path dir;
+
+	private final ProductRepository productRepository = mock(ProductRepository.class);
+	private final FlashSaleRepository flashSaleRepository = mock(FlashSaleRepository.class);
+	private final StockReservationRepository reservationRepository = mock(StockReservationRepository.class);
+	private FlashSaleService service;
+
+	@AfterEach
+	void shutdown() throws Exception {
+		if (service != null)
+			service.shutdown();
+	}
+
+	@Test
+	void appliesOnlyUnappliedCommittedSalesAndRevertsUncommittedOnes() throws Exception {
+		UUID appliedCommitted = UUID.randomUUID();
+		UUID appliedUncommitted = UUID.randomUUID();
+		UUID pendingCommitted = UUID.randomUUID();
+		UUID pendingUncommitted = UUID.randomUUID();
+		Path path = dir.resolve("flash-sale.journal");
+		try (FlashSaleJournal journal = new FlashSaleJournal(path)) {
+			journal.append(new FlashSaleJournal.Entry(1, FlashSaleJournal.TAKE, PRODUCT_ID, -2, appliedCommitted));
+			journal.append(new FlashSaleJournal.Entry(2, FlashSaleJournal.TAKE, PRODUCT_ID, -3, appliedUncommitted));
+			journal.append(new FlashSaleJournal.Entry(3, FlashSaleJournal.TAKE, PRODUCT_ID, -1, pendingCommitted));
+			journal.append(new FlashSaleJournal.Entry(4, FlashSaleJournal.TAKE, PRODUCT_ID, -4, pendingUncommitted));
+			// 세일이 끝난 상품의 기록은 무시
+			journal.append(new FlashSaleJournal.Entry(5, FlashSaleJournal.TAKE, 99L, -5, UUID.randomUUID()));
+			journal.sync(5);
+		}
+		// 마지막 레코드를 쓰다 중단됨
+		Files.write(path, new byte[] { 1, 2, 3 }, StandardOpenOption.APPEND);
+		when(flashSaleRepository.findAll()).thenReturn(List.of(flashSale(2)));
+		when(reservationRepository.findExistingKeys(anyCollection()))
+				.thenReturn(List.of(appliedCommitted.toString(), pendingCommitted.toString()));
+		when(productRepository.findById(PRODUCT_ID)).thenReturn(Optional.of(product(ProductStatus.APPROVED, 12)));
+
+		service = service(path);
+		service.recover();
+
+		// 반영됐지만 예약이 없는 판매(+3) 되돌림, 반영 안 됐고 예약이 있는 판매(-1) 적용
+		verify(productRepository).applyStockDeltas(new TreeMap<>(Map.of(PRODUCT_ID, 2)));
+		verify(flashSaleRepository).updateAppliedSeq(Set.of(PRODUCT_ID), 5);
+		assertThat(service.isActive(PRODUCT_ID)).isTrue();
+		assertThat(service.available(PRODUCT_ID)).isEqualTo(12);
+		assertThat(Files.size(path)).isZero();
+	}
+
+	@Test
+	void endsSaleOfProductThatIsNoLongerSelling() throws Exception {
+		Path path = dir.resolve("flash-sale.journal");
+		UUID key = UUID.randomUUID();
+		try (FlashSaleJournal journal = new FlashSaleJournal(path)) {
+			journal.append(new FlashSaleJournal.Entry(1, FlashSaleJournal.TAKE, PRODUCT_ID, -2, key));
+			journal.sync(1);
+		}
+		when(flashSaleRepository.findAll()).thenReturn(List.of(flashSale(0)));
+		when(reservationRepository.findExistingKeys(anyCollection())).thenReturn(List.of(key.toString()));
+		when(productRepository.findById(PRODUCT_ID)).thenReturn(Optional.of(product(ProductStatus.PENDING, 8)));
+
+		service = service(path);
+		service.recover();
+
+		verify(productRepository).applyStockDeltas(new TreeMap<>(Map.of(PRODUCT_ID, -2)));
+		verify(flashSaleRepository).deleteById(PRODUCT_ID);
+		assertThat(service.isActive(PRODUCT_ID)).isFalse();
+		assertThat(service.available(PRODUCT_ID)).isNull();
+	}
+
+	@Test
+	void emptyJournalLeavesStockUntouched() throws Exception {
+		when(flashSaleRepository.findAll()).thenReturn(List.of(flashSale(4)));
+		when(productRepository.findById(PRODUCT_ID)).thenReturn(Optional.of(product(ProductStatus.SOLD_OUT, 0)));
+
+		service = service(dir.resolve("flash-sale.journal"));
+		service.recover();
+
+		verify(productRepository, never()).applyStockDeltas(any());
+		verify(flashSaleRepository, never()).deleteById(anyLong());
+		assertThat(service.isActive(PRODUCT_ID)).isTrue();
+		assertThat(service.available(PRODUCT_ID)).isZero();
+	}
+
+	@Test
+	void rejectsRelativeJournalPath() {
+		assertThatThrownBy(() -> service(Path.of("data/flash-sale.journal")))
+				.isInstanceOf(IllegalStateException.class);
+	}
+
+	private FlashSaleService service(Path journalPath) {
+		return new FlashSaleService(productRepository, flashSaleRepository, reservationRepository,
+				mock(ApplicationEventPublisher.class), mock(PlatformTransactionManager.class), journalPath.toString(), 4);
+	}
+
+	private static FlashSale flashSale(long appliedSeq) {
+		return FlashSale.builder().productId(PRODUCT_ID).appliedSeq(appliedSeq).startedAt(LocalDateTime.now()).build();
+	}
+
+	private static Product product(ProductStatus status, int stock) {
+		return Product.builder().productId(PRODUCT_ID).status(status).stockQuantity(stock).build();
+	}
+}
@@ -0,0 +1,77 @@
+package org.ezon.msa.flashsale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+class StripedStockTest {
+
+	@Test
+	void splitsStockAcrossStripes() {
+		assertThat(new StripedStock(10, 4).available()).isEqualTo(10);
+		assertThat(new StripedStock(3, 16).available()).isEqualTo(3);
+		assertThat(new StripedStock(0, 16).available()).isZero();
+	}
+
+	@Test
+	void takeIsAllOrNothing() {
+		StripedStock stock = new StripedStock(10, 4);
+
+		// 여러 칸에 걸쳐 가져오다 부족하면 가져온 만큼 되돌림
+		assertThat(stock.tryTake(11)).isFalse();
+		assertThat(stock.available()).isEqualTo(10);
+
+		assertThat(stock.tryTake(7)).isTrue();
+		assertThat(stock.available()).isEqualTo(3);
+		assertThat(stock.tryTake(4)).isFalse();
+		assertThat(stock.tryTake(3)).isTrue();
+		assertThat(stock.available()).isZero();
+		assertThat(stock.tryTake(1)).isFalse();
+	}
+
+	@Test
+	void giveMakesStockAvailableAgain() {
+		StripedStock stock = new StripedStock(0, 16);
+
+		stock.give(2);
+
+		assertThat(stock.available()).isEqualTo(2);
+		assertThat(stock.tryTake(2)).isTrue();
+		assertThat(stock.available()).isZero();
+	}
+
+	@Test
+	void concurrentTakesNeverOversell() throws Exception {
+		StripedStock stock = new StripedStock(1000, 16);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<Integer>> results = new ArrayList<>();
+			for (int t = 0; t < 8; t++) {
+				int quantity = t % 3 + 1;
+				results.add(executor.submit(() -> {
+					int taken = 0;
+					while (stock.tryTake(quantity))
+						taken += quantity;
+					// 남은 재고가 quantity 보다 적어지면 하나씩
+					while (stock.tryTake(1))
+						taken++;
+					return taken;
+				}));
+			}
+			int total = 0;
+			for (Future<Integer> result : results)
+				total += result.get();
+
+			assertThat(total).isEqualTo(1000);
+			assertThat(stock.available()).isZero();
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,61 @@
+package org.ezon.msa.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.ezon.msa.dto.CartProductView;
+import org.ezon.msa.event.ProductChangedEvent;
+import org.ezon.msa.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+
+class CartProductCacheTest {
+
+	private static final long PRODUCT_ID = 7L;
+
+	private final ProductRepository productRepository = mock(ProductRepository.class);
+	private final CartProductCache cache = new CartProductCache(productRepository, 100, 600);
+
+	@Test
+	void cachesLoadedViews() {
+		when(productRepository.findCartViews(anyCollection())).thenReturn(List.of(view(1000)));
+
+		assertThat(cache.get(PRODUCT_ID).price()).isEqualTo(1000);
+		assertThat(cache.get(PRODUCT_ID).price()).isEqualTo(1000);
+		verify(productRepository, times(1)).findCartViews(anyCollection());
+	}
+
+	@Test
+	void invalidationDuringLoadDiscardsLoadedView() throws Exception {
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch invalidated = new CountDownLatch(1);
+		// 첫 조회는 변경 전 값을 읽은 상태에서 멈추고, 그 사이 변경 이벤트가 처리됨
+		when(productRepository.findCartViews(anyCollection())).thenAnswer(invocation -> {
+			loading.countDown();
+			assertThat(invalidated.await(5, TimeUnit.SECONDS)).isTrue();
+			return List.of(view(1000));
+		}).thenReturn(List.of(view(800)));
+
+		CompletableFuture<CartProductView> stale = CompletableFuture.supplyAsync(() -> cache.get(PRODUCT_ID));
+		assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+		cache.onProductChanged(new ProductChangedEvent(PRODUCT_ID, null));
+		invalidated.countDown();
+
+		// 진행 중이던 조회는 읽은 값을 그대로 돌려주지만 캐시에는 남기지 않음
+		assertThat(stale.get(5, TimeUnit.SECONDS).price()).isEqualTo(1000);
+		assertThat(cache.get(PRODUCT_ID).price()).isEqualTo(800);
+		verify(productRepository, times(2)).findCartViews(anyCollection());
+	}
+
+	private static CartProductView view(int price) {
+		return new CartProductView(PRODUCT_ID, "상품", price, 0, "image", 0);
+	}
+}